@@ -4,7 +4,7 @@ plugins {
 }
 
 group = "es.hyrex.hyrexanimations"
-version = "1.1.0"
+version = "1.2.0"
 
 repositories {
     mavenCentral()
@@ -12,9 +12,24 @@ repositories {
     maven("https://oss.sonatype.org/content/repositories/snapshots")
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
 dependencies {
     compileOnly("org.spigotmc:spigot-api:1.8.8-R0.1-SNAPSHOT")
     compileOnly("org.jetbrains:annotations:24.0.0")
+
+    testImplementation("org.spigotmc:spigot-api:1.8.8-R0.1-SNAPSHOT")
+    testImplementation("org.jetbrains:annotations:24.0.0")
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.spigotmc:spigot-api:1.8.8-R0.1-SNAPSHOT")
+    "jmhImplementation"("org.jetbrains:annotations:24.0.0")
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 java {
@@ -43,4 +58,23 @@ tasks.withType<Javadoc> {
 
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks. Use -Pjmh.include=<regex> to run only some of them."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(
+        project.findProperty("jmh.include")?.toString() ?: ".*",
+        "-rf", "json",
+        "-rff", layout.buildDirectory.file("reports/jmh/results.json").get().asFile.path
+    )
+    doFirst {
+        layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs()
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package es.hyrex.hyrexanimations.api.benchmark;
+
+import es.hyrex.hyrexanimations.api.AnimationScheduler;
+import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.CompiledAnimation;
+import es.hyrex.hyrexanimations.api.animation.CompiledFrame;
+import es.hyrex.hyrexanimations.api.animation.PlaceholderResolver;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole second of a broadcast: every tick, the frames that are due are resolved,
+ * grouped by payload and "sent" to every viewer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastTickBenchmark {
+
+    private static final PlaceholderResolver RESOLVER = (player, placeholder) -> player.getName();
+
+    @Param({"10", "100", "1000"})
+    public int viewers;
+
+    @Param({"5.0", "20.0", "30.0"})
+    public double framesPerSecond;
+
+    @Param({"false", "true"})
+    public boolean usePlaceholderAPI;
+
+    private List<Player> players;
+    private CompiledAnimation animation;
+
+    @Setup
+    public void setup() {
+        players = MockServer.players(viewers, Set.of());
+
+        int frames = (int) Math.ceil(framesPerSecond);
+        List<String> frameList = new ArrayList<>(frames);
+        List<CompiledFrame> compiledFrames = new ArrayList<>(frames);
+        for (int i = 0; i < frames; i++) {
+            String frame = "Frame " + i + (usePlaceholderAPI ? " %player_name%" : "");
+            frameList.add(frame);
+            compiledFrames.add(new CompiledFrame("{\"text\":\"" + frame + "\"}", usePlaceholderAPI));
+        }
+        animation = new CompiledAnimation(new Animation("benchmark", frameList, framesPerSecond, false, usePlaceholderAPI), compiledFrames);
+    }
+
+    @Benchmark
+    public void broadcastSecond(Blackhole blackhole) {
+        int frame = 0;
+        int frames = animation.getFrameList().size();
+        for (long tick = 0; tick < AnimationScheduler.TICKS_PER_SECOND; tick++) {
+            int due = -1;
+            while (frame < frames && animation.getFrameTick(frame) <= tick) {
+                due = frame++;
+            }
+            if (due == -1) continue;
+
+            for (Map.Entry<String, Collection<? extends Player>> group : animation.getCompiledFrame(due).groupByPayload(players, RESOLVER).entrySet()) {
+                // The payload is encoded once per group and the same packet is sent to every player of the group.
+                byte[] packet = group.getKey().getBytes(StandardCharsets.UTF_8);
+                for (Player player : group.getValue()) {
+                    blackhole.consume(player);
+                    blackhole.consume(packet);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package es.hyrex.hyrexanimations.api.benchmark;
+
+import es.hyrex.hyrexanimations.api.animation.Condition;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * Measures how long it takes to filter the viewers by a condition.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionFilterBenchmark {
+
+    // Stands for a costly expression, the real ones are evaluated by the plugin.
+    private static final BiPredicate<Player, Condition> EXPRESSIONS = (player, condition) ->
+            player.getName().hashCode() % 3 == 0;
+
+    @Param({"10", "100", "1000"})
+    public int viewers;
+
+    private List<Player> players;
+    private Condition permission;
+    private Condition composite;
+
+    @Setup
+    public void setup() {
+        players = MockServer.players(viewers, Set.of("lobby.vip"));
+        permission = new Condition(Condition.Type.HAS_PERMISSION, "lobby.vip");
+        composite = Condition.and(
+                new Condition(Condition.Type.EXPRESSION, "%player_level% > 10"),
+                new Condition(Condition.Type.HAS_PERMISSION, "lobby.vip"),
+                Condition.not(new Condition(Condition.Type.HAS_PERMISSION, "lobby.staff"))
+        );
+    }
+
+    @Benchmark
+    public List<Player> filterPermission() {
+        return filter(permission);
+    }
+
+    @Benchmark
+    public List<Player> filterComposite() {
+        return filter(composite);
+    }
+
+    private List<Player> filter(Condition condition) {
+        List<Player> passed = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (condition.test(player, EXPRESSIONS)) passed.add(player);
+        }
+        return passed;
+    }
+}
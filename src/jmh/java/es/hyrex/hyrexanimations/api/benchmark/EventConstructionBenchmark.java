@@ -0,0 +1,68 @@
+package es.hyrex.hyrexanimations.api.benchmark;
+
+import es.hyrex.hyrexanimations.api.animation.AnimationType;
+import es.hyrex.hyrexanimations.api.events.AnimationFinishEvent;
+import es.hyrex.hyrexanimations.api.events.AnimationStartEvent;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to create the start and finish events, with the copy of the players list and without it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventConstructionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int viewers;
+
+    private List<Player> players;
+
+    @Setup
+    public void setup() {
+        players = MockServer.players(viewers, Set.of());
+    }
+
+    @Benchmark
+    public AnimationStartEvent startEvent() {
+        return new AnimationStartEvent("benchmark", AnimationType.API, players);
+    }
+
+    @Benchmark
+    public AnimationFinishEvent finishEvent() {
+        return new AnimationFinishEvent("benchmark", AnimationType.API, players);
+    }
+
+    @Benchmark
+    public AnimationStartEvent startEventWithoutCopy() {
+        return AnimationStartEvent.withoutCopy("benchmark", AnimationType.API, players, null);
+    }
+
+    @Benchmark
+    public AnimationFinishEvent finishEventWithoutCopy() {
+        return AnimationFinishEvent.withoutCopy("benchmark", AnimationType.API, players, AnimationFinishEvent.Reason.COMPLETED);
+    }
+
+    @Benchmark
+    public int startEventRead() {
+        return new AnimationStartEvent("benchmark", AnimationType.API, players).getPlayers().size();
+    }
+}
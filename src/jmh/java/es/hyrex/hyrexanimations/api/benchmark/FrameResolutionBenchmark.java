@@ -0,0 +1,81 @@
+package es.hyrex.hyrexanimations.api.benchmark;
+
+import es.hyrex.hyrexanimations.api.animation.CompiledFrame;
+import es.hyrex.hyrexanimations.api.animation.PlaceholderResolver;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to resolve a compiled frame for all the viewers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameResolutionBenchmark {
+
+    private static final PlaceholderResolver RESOLVER = (player, placeholder) ->
+            placeholder.equals("%player_name%") ? player.getName() : "42";
+
+    @Param({"10", "100", "1000"})
+    public int viewers;
+
+    private List<Player> players;
+    private CompiledFrame staticFrame;
+    private CompiledFrame sharedFrame;
+    private CompiledFrame playerFrame;
+
+    @Setup
+    public void setup() {
+        players = MockServer.players(viewers, Set.of());
+        staticFrame = new CompiledFrame("{\"text\":\"WINNER\",\"color\":\"gold\"}", true);
+        sharedFrame = new CompiledFrame("{\"text\":\"Online: %server_online%\",\"color\":\"gold\"}", true);
+        playerFrame = new CompiledFrame("{\"text\":\"Welcome %player_name%\",\"color\":\"gold\"}", true);
+    }
+
+    @Benchmark
+    public void resolveStatic(Blackhole blackhole) {
+        for (Player player : players) {
+            blackhole.consume(staticFrame.resolve(player, RESOLVER));
+        }
+    }
+
+    @Benchmark
+    public void resolvePerPlayer(Blackhole blackhole) {
+        for (Player player : players) {
+            blackhole.consume(playerFrame.resolve(player, RESOLVER));
+        }
+    }
+
+    @Benchmark
+    public Object groupStatic() {
+        return staticFrame.groupByPayload(players, RESOLVER);
+    }
+
+    @Benchmark
+    public Object groupShared() {
+        return sharedFrame.groupByPayload(players, RESOLVER);
+    }
+
+    @Benchmark
+    public Object groupPerPlayer() {
+        return playerFrame.groupByPayload(players, RESOLVER);
+    }
+}
@@ -0,0 +1,89 @@
+package es.hyrex.hyrexanimations.api.benchmark;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates {@link Player} and {@link World} stand-ins that work without a running server.
+ * <p>
+ * Only the methods used by the benchmarks are implemented, the others return the default value of their type.
+ */
+final class MockServer {
+
+    private MockServer() {
+    }
+
+    static List<Player> players(int count, Set<String> permissions) {
+        List<Player> players = new ArrayList<>(count);
+        World world = world(players);
+        for (int i = 0; i < count; i++) {
+            // Every other player has the permissions, so the conditions have to test all of them.
+            players.add(player("Player" + i, world, i % 2 == 0 ? permissions : Set.of()));
+        }
+        return players;
+    }
+
+    static Player player(String name, World world, Set<String> permissions) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        return (Player) Proxy.newProxyInstance(MockServer.class.getClassLoader(), new Class<?>[]{Player.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return name;
+                case "getUniqueId":
+                    return uuid;
+                case "getWorld":
+                    return world;
+                case "hasPermission":
+                    return args[0] instanceof String && permissions.contains(args[0]);
+                case "isOnline":
+                    return true;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return uuid.hashCode();
+                case "toString":
+                    return "MockPlayer[" + name + "]";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    static World world(List<Player> players) {
+        return (World) Proxy.newProxyInstance(MockServer.class.getClassLoader(), new Class<?>[]{World.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getPlayers":
+                    return players;
+                case "getName":
+                    return "world";
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "MockWorld[world]";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+}
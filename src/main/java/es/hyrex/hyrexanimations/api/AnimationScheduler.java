@@ -0,0 +1,51 @@
+package es.hyrex.hyrexanimations.api;
+
+import es.hyrex.hyrexanimations.api.animation.Animation;
+
+/**
+ * The scheduler that plays all the animations.
+ * <p>
+ * Instead of running a task for each animation, the plugin runs a single task that is advanced once per server tick.
+ * Each playback is stored in a timing wheel by the tick of its next frame (see {@link Animation#getFrameTick(int)}),
+ * so every tick only the playbacks with a frame due on that tick are visited.
+ * <br>
+ * <h2>How to get it</h2>
+ * <pre>{@code
+ * // It is registered in the Bukkit Services Manager next to the API, or you can get it from the API.
+ * AnimationScheduler scheduler = api.getScheduler();
+ * }
+ * </pre>
+ *
+ * @since 1.2.0
+ */
+public interface AnimationScheduler {
+
+    /**
+     * The server ticks per second the scheduler is advanced at.
+     */
+    int TICKS_PER_SECOND = 20;
+
+    /**
+     * Gets the tick the scheduler is currently at. It starts at 0 when the plugin is enabled.
+     *
+     * @return The current tick.
+     * @since 1.2.0
+     */
+    long getCurrentTick();
+
+    /**
+     * Gets the number of playbacks that are currently running.
+     *
+     * @return The active playbacks count.
+     * @since 1.2.0
+     */
+    int getActivePlaybackCount();
+
+    /**
+     * Gets the number of frames that were due on the last tick.
+     *
+     * @return The frames count of the last tick.
+     * @since 1.2.0
+     */
+    int getLastTickFrameCount();
+}
@@ -0,0 +1,52 @@
+package es.hyrex.hyrexanimations.api;
+
+import es.hyrex.hyrexanimations.api.animation.AnimationCommand;
+import es.hyrex.hyrexanimations.api.metrics.LatencySnapshot;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs the {@link AnimationCommand commands} of the animations.
+ * <p>
+ * All the commands that are due on a tick are grouped. The {@link AnimationCommand.Type#MESSAGE messages} are rendered
+ * once for each distinct text and sent to all the players who get that text. The {@link AnimationCommand.Type#CONSOLE console}
+ * and {@link AnimationCommand.Type#PLAYER player} commands are run in order until the tick budget is spent, and the rest
+ * are run in the next ticks.
+ *
+ * @since 1.2.0
+ */
+public interface CommandDispatcher {
+
+    /**
+     * Sets how long the console and player commands can run on each tick.
+     *
+     * @param nanos The budget in nanoseconds. At least one command is run on each tick, even if it takes longer.
+     * @throws IllegalArgumentException If the budget is not positive.
+     * @since 1.2.0
+     */
+    void setTickBudget(long nanos);
+
+    /**
+     * Gets how long the console and player commands can run on each tick.
+     *
+     * @return The budget in nanoseconds.
+     * @since 1.2.0
+     */
+    long getTickBudget();
+
+    /**
+     * Gets the number of commands that are waiting for the next ticks because the budget was spent.
+     *
+     * @return The pending commands count.
+     * @since 1.2.0
+     */
+    int getPendingCount();
+
+    /**
+     * Gets how long the commands of a type took to run, one duration for each command.
+     *
+     * @param type The command type.
+     * @return The command times.
+     * @since 1.2.0
+     */
+    @NotNull LatencySnapshot getTimings(@NotNull AnimationCommand.Type type);
+}
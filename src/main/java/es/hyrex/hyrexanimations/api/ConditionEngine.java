@@ -0,0 +1,92 @@
+package es.hyrex.hyrexanimations.api;
+
+import es.hyrex.hyrexanimations.api.animation.CompiledCondition;
+import es.hyrex.hyrexanimations.api.animation.Condition;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evaluates the {@link Condition conditions} used to select to whom the animations are shown.
+ * <p>
+ * The {@link Condition.Type#EXPRESSION expressions} are parsed only once. The compiled conditions are stored by their id,
+ * except the {@link Condition#isCustom() custom} conditions, that are stored by the whole condition (See {@link Condition#equals(Object)}),
+ * so composite conditions with different child conditions are never mixed.
+ * Composite conditions are tested in a single pass over the players, testing the cheapest child conditions first
+ * and stopping as soon as the result is known. (See {@link Condition#test(Player, java.util.function.BiPredicate)})
+ * <br>
+ * The results can also be stored for a short time, so a player is not tested again for the same condition
+ * in many animations that start together. This is disabled by default.
+ *
+ * @since 1.2.0
+ */
+public interface ConditionEngine {
+
+    /**
+     * Compiles a condition, or gets the one that was already compiled.
+     *
+     * @param condition The condition.
+     * @return The compiled condition.
+     * @throws IllegalArgumentException If the condition is an expression that is not valid.
+     * @since 1.2.0
+     */
+    @NotNull CompiledCondition compile(@NotNull Condition condition);
+
+    /**
+     * Tests a condition for a player.
+     *
+     * @param player    The player.
+     * @param condition The condition.
+     * @return True if the player passes the condition.
+     * @throws IllegalArgumentException If the condition is an expression that is not valid.
+     * @since 1.2.0
+     */
+    boolean test(@NotNull Player player, @NotNull Condition condition);
+
+    /**
+     * Gets the players who pass a condition.
+     *
+     * @param players   The players.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition, in the same order.
+     * @throws IllegalArgumentException If the condition is an expression that is not valid.
+     * @since 1.2.0
+     */
+    @NotNull List<Player> filter(@NotNull Collection<? extends Player> players, @NotNull Condition condition);
+
+    /**
+     * Sets how long the result of a condition is stored for each player.
+     *
+     * @param duration The duration, or {@link Duration#ZERO} to not store the results.
+     * @since 1.2.0
+     */
+    void setResultCacheDuration(@NotNull Duration duration);
+
+    /**
+     * Gets how long the result of a condition is stored for each player.
+     *
+     * @return The duration, or {@link Duration#ZERO} if the results are not stored.
+     * @since 1.2.0
+     */
+    @NotNull Duration getResultCacheDuration();
+
+    /**
+     * Removes a compiled condition and its stored results, for example when the condition changed.
+     * The composite conditions that contain it are removed too.
+     *
+     * @param conditionId The condition id.
+     * @since 1.2.0
+     */
+    void invalidate(@NotNull String conditionId);
+
+    /**
+     * Removes the stored results of a player, for example when the player permissions changed.
+     *
+     * @param player The player.
+     * @since 1.2.0
+     */
+    void invalidate(@NotNull Player player);
+}
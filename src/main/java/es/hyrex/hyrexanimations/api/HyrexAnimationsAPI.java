@@ -1,20 +1,36 @@
 package es.hyrex.hyrexanimations.api;
 
 import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.AnimationRef;
+import es.hyrex.hyrexanimations.api.animation.CompiledAnimation;
 import es.hyrex.hyrexanimations.api.animation.Condition;
 import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import es.hyrex.hyrexanimations.api.animation.GlyphAtlas;
+import es.hyrex.hyrexanimations.api.cluster.AnimationCluster;
 import es.hyrex.hyrexanimations.api.exception.AnimationNotFoundException;
+import es.hyrex.hyrexanimations.api.metrics.AnimationMetrics;
+import es.hyrex.hyrexanimations.api.pack.AnimationPack;
+import es.hyrex.hyrexanimations.api.playback.Audience;
+import es.hyrex.hyrexanimations.api.playback.ShowRequest;
+import es.hyrex.hyrexanimations.api.playback.SlotManager;
+import es.hyrex.hyrexanimations.api.playback.ShowResult;
+import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * With the <b>HyrexAnimations API</b> you can show animations to your users from your plugin.
  * <br>
- * <b>ALL METHODS IN THIS API MUST BE CALLED SYNCHRONOUSLY!!!</b>
+ * <b>ALL METHODS IN THIS API MUST BE CALLED SYNCHRONOUSLY!!!</b> (Except the methods whose name ends with {@code Async})
  * <br>
  * <h2>How to get it</h2>
  * <pre>{@code
@@ -37,6 +53,157 @@ public interface HyrexAnimationsAPI {
      */
     Set<String> getAnimations();
 
+    /**
+     * Looks up a registered animation and gives you a reference to show it without looking it up again.
+     * <p>
+     * If the animation is reloaded, the reference keeps the old version. (See {@link es.hyrex.hyrexanimations.api.events.AnimationRegistryChangeEvent})
+     *
+     * @param animationName The animation name.
+     * @return The animation reference, or null if the animation was not found.
+     * @since 1.2.0
+     */
+    @Nullable AnimationRef resolve(@NotNull String animationName);
+
+    /**
+     * Gets the scheduler that plays the animations.
+     *
+     * @return The animation scheduler.
+     * @since 1.2.0
+     */
+    @NotNull AnimationScheduler getScheduler();
+
+    /**
+     * Gets the manager of the display slots of the players.
+     * <p>
+     * The animations shown with the {@code showAnimation} methods use the priority 0 and the {@link es.hyrex.hyrexanimations.api.playback.SlotPolicy#PREEMPT} policy.
+     *
+     * @return The slot manager.
+     * @since 1.2.0
+     */
+    @NotNull SlotManager getSlotManager();
+
+    /**
+     * Gets the engine that evaluates the conditions. All the methods that accept a {@link Condition} use it.
+     *
+     * @return The condition engine.
+     * @since 1.2.0
+     */
+    @NotNull ConditionEngine getConditionEngine();
+
+    /**
+     * Gets the metrics of the animations.
+     *
+     * @return The animation metrics.
+     * @since 1.2.0
+     */
+    @NotNull AnimationMetrics getMetrics();
+
+    /**
+     * Gets the cache of the resolved placeholders.
+     *
+     * @return The placeholder cache.
+     * @since 1.2.0
+     */
+    @NotNull PlaceholderCache getPlaceholderCache();
+
+    /**
+     * Gets the dispatcher that runs the commands of the animations.
+     *
+     * @return The command dispatcher.
+     * @since 1.2.0
+     */
+    @NotNull CommandDispatcher getCommandDispatcher();
+
+    /**
+     * Gets the index used to find the players near a location.
+     *
+     * @return The player index.
+     * @since 1.2.0
+     */
+    @NotNull PlayerIndex getPlayerIndex();
+
+    /**
+     * Gets the cluster used to show animations to all the servers of a network at the same time.
+     *
+     * @return The animation cluster.
+     * @since 1.2.0
+     */
+    @NotNull AnimationCluster getCluster();
+
+    /**
+     * Gets the glyph atlas of a registered {@link es.hyrex.hyrexanimations.api.animation.AnimationType#TEXTURE texture pack animation},
+     * so your plugin can use the same glyphs without building them again.
+     *
+     * @param animationName The animation name.
+     * @return The glyph atlas, or null if the animation was not found or is not a texture pack animation.
+     * @since 1.2.0
+     */
+    @Nullable GlyphAtlas getGlyphAtlas(@NotNull String animationName);
+
+    /**
+     * Reloads the animation files that were added, removed or modified since they were loaded. The other animations are not parsed again.
+     * <p>
+     * The new animations replace the old ones at once, and the animations that are being shown finish with their old version.
+     * If anything changed, an {@link es.hyrex.hyrexanimations.api.events.AnimationRegistryChangeEvent} is called.
+     *
+     * @return True if any animation was added, removed or changed.
+     * @since 1.2.0
+     */
+    boolean reloadAnimations();
+
+    /**
+     * Reloads the file of a registered animation, even if it was not modified.
+     * <p>
+     * The animations that are being shown finish with their old version.
+     * If the animation changed, an {@link es.hyrex.hyrexanimations.api.events.AnimationRegistryChangeEvent} is called.
+     *
+     * @param animationName The animation name.
+     * @return True if the animation changed or was removed because its file does not exist.
+     * @throws AnimationNotFoundException If the animation was not found.
+     * @since 1.2.0
+     */
+    boolean reloadAnimation(@NotNull String animationName) throws AnimationNotFoundException;
+
+    /**
+     * Registers the animations of an animation pack. The animations with the same name as a registered animation replace it.
+     * <p>
+     * An {@link es.hyrex.hyrexanimations.api.events.AnimationRegistryChangeEvent} is called with the added and replaced animations.
+     *
+     * @param pack The animation pack.
+     * @return A set with the names of the registered animations.
+     * @since 1.2.0
+     */
+    @NotNull Set<String> registerPack(@NotNull AnimationPack pack);
+
+    /**
+     * Opens an animation pack file and registers its animations. (See {@link #registerPack(AnimationPack)})
+     *
+     * @param path The file path.
+     * @return A set with the names of the registered animations.
+     * @throws IOException If the file could not be read or is not a valid animation pack.
+     * @since 1.2.0
+     */
+    default @NotNull Set<String> loadPack(@NotNull Path path) throws IOException {
+        return registerPack(AnimationPack.open(path));
+    }
+
+    /**
+     * Compiles an animation, parsing and serializing its frames only once.
+     * <p>
+     * The compiled animation can be passed to every {@code showAnimation} method that accepts an {@link Animation},
+     * so it is worth compiling the animations that are shown many times. Registered animations are already compiled by the plugin.
+     * <p>
+     * The sounds are looked up once, and the sounds that are not found are logged and reported in {@link CompiledAnimation#getUnknownSounds()}.
+     * <p>
+     * When an animation is shown to many players, each frame packet is built once per distinct payload and the same
+     * packet is sent to all the players who see that payload. Frames without placeholders are built only once per tick.
+     *
+     * @param animation The animation.
+     * @return The compiled animation, or the same animation if it was already compiled.
+     * @since 1.2.0
+     */
+    @NotNull CompiledAnimation compile(@NotNull Animation animation);
+
     /**
      * Shows a registered animation to all the players in the server.
      *
@@ -135,6 +302,96 @@ public interface HyrexAnimationsAPI {
      */
     @NotNull Collection<Player> showAnimation(@NotNull String animationName, @NotNull Collection<Player> players, @NotNull DisplayType displayType, @NotNull Condition condition) throws AnimationNotFoundException;
 
+    /**
+     * Shows a registered animation to all the players in the server.
+     *
+     * @param animation The animation reference.
+     * @param displayType The display type.
+     * @return True if the animation will be shown.
+     * @since 1.2.0
+     */
+    boolean showAnimation(@NotNull AnimationRef animation, @NotNull DisplayType displayType);
+
+    /**
+     * Shows a registered animation to all the players in the server who pass the condition.
+     *
+     * @param animation The animation reference.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull DisplayType displayType, @NotNull Condition condition);
+
+    /**
+     * Shows a registered animation to a specific player.
+     *
+     * @param animation The animation reference.
+     * @param player The player.
+     * @param displayType The display type.
+     * @return True if the animation will be shown.
+     * @since 1.2.0
+     */
+    boolean showAnimation(@NotNull AnimationRef animation, @NotNull Player player, @NotNull DisplayType displayType);
+
+    /**
+     * Shows a registered animation to a specific player if pass the condition.
+     *
+     * @param animation The animation reference.
+     * @param player The player.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return True if the animation will be shown.
+     * @since 1.2.0
+     */
+    boolean showAnimation(@NotNull AnimationRef animation, @NotNull Player player, @NotNull DisplayType displayType, @NotNull Condition condition);
+
+    /**
+     * Shows a registered animation to all the players in the world.
+     *
+     * @param animation The animation reference.
+     * @param world The world.
+     * @param displayType The display type.
+     * @return A list with the players who are in the world and the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull World world, @NotNull DisplayType displayType);
+
+    /**
+     * Shows a registered animation to all the players in the world who pass the condition.
+     *
+     * @param animation The animation reference.
+     * @param world The world.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull World world, @NotNull DisplayType displayType, @NotNull Condition condition);
+
+    /**
+     * Shows a registered animation to a list of players.
+     *
+     * @param animation The animation reference.
+     * @param players The players list.
+     * @param displayType The display type.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Collection<Player> players, @NotNull DisplayType displayType);
+
+    /**
+     * Shows a registered animation to a list of players who pass the condition.
+     *
+     * @param animation The animation reference.
+     * @param players The players list.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Collection<Player> players, @NotNull DisplayType displayType, @NotNull Condition condition);
+
     /**
      * Shows an animation to all the players in the server.
      *
@@ -224,4 +481,273 @@ public interface HyrexAnimationsAPI {
      * @since 1.1.0
      */
     @NotNull Collection<Player> showAnimation(@NotNull Animation animation, @NotNull Collection<Player> players, @NotNull DisplayType displayType, @NotNull Condition condition);
+
+    /**
+     * Shows a registered animation to all the players near a location.
+     *
+     * @param animationName The animation name.
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @param displayType The display type.
+     * @return A list with the players who are near the location and the animation will be shown.
+     * @throws AnimationNotFoundException If the animation was not found.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull String animationName, @NotNull Location center, double radius, @NotNull DisplayType displayType) throws AnimationNotFoundException {
+        return showAnimation(animationName, getPlayerIndex().getPlayersNear(center, radius), displayType);
+    }
+
+    /**
+     * Shows a registered animation to all the players inside a box.
+     *
+     * @param animationName The animation name.
+     * @param corner A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @param displayType The display type.
+     * @return A list with the players who are inside the box and the animation will be shown.
+     * @throws AnimationNotFoundException If the animation was not found.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull String animationName, @NotNull Location corner, @NotNull Location otherCorner, @NotNull DisplayType displayType) throws AnimationNotFoundException {
+        return showAnimation(animationName, getPlayerIndex().getPlayersIn(corner, otherCorner), displayType);
+    }
+
+    /**
+     * Shows a registered animation to all the players near a location who pass the condition.
+     *
+     * @param animationName The animation name.
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @throws AnimationNotFoundException If the animation was not found.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull String animationName, @NotNull Location center, double radius, @NotNull DisplayType displayType, @NotNull Condition condition) throws AnimationNotFoundException {
+        return showAnimation(animationName, getPlayerIndex().getPlayersNear(center, radius), displayType, condition);
+    }
+
+    /**
+     * Shows a registered animation to all the players inside a box who pass the condition.
+     *
+     * @param animationName The animation name.
+     * @param corner A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @throws AnimationNotFoundException If the animation was not found.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull String animationName, @NotNull Location corner, @NotNull Location otherCorner, @NotNull DisplayType displayType, @NotNull Condition condition) throws AnimationNotFoundException {
+        return showAnimation(animationName, getPlayerIndex().getPlayersIn(corner, otherCorner), displayType, condition);
+    }
+
+    /**
+     * Shows a registered animation to all the players near a location.
+     *
+     * @param animation The animation reference.
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @param displayType The display type.
+     * @return A list with the players who are near the location and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Location center, double radius, @NotNull DisplayType displayType) {
+        return showAnimation(animation, getPlayerIndex().getPlayersNear(center, radius), displayType);
+    }
+
+    /**
+     * Shows a registered animation to all the players inside a box.
+     *
+     * @param animation The animation reference.
+     * @param corner A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @param displayType The display type.
+     * @return A list with the players who are inside the box and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Location corner, @NotNull Location otherCorner, @NotNull DisplayType displayType) {
+        return showAnimation(animation, getPlayerIndex().getPlayersIn(corner, otherCorner), displayType);
+    }
+
+    /**
+     * Shows a registered animation to all the players near a location who pass the condition.
+     *
+     * @param animation The animation reference.
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Location center, double radius, @NotNull DisplayType displayType, @NotNull Condition condition) {
+        return showAnimation(animation, getPlayerIndex().getPlayersNear(center, radius), displayType, condition);
+    }
+
+    /**
+     * Shows a registered animation to all the players inside a box who pass the condition.
+     *
+     * @param animation The animation reference.
+     * @param corner A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Location corner, @NotNull Location otherCorner, @NotNull DisplayType displayType, @NotNull Condition condition) {
+        return showAnimation(animation, getPlayerIndex().getPlayersIn(corner, otherCorner), displayType, condition);
+    }
+
+    /**
+     * Shows an animation to all the players near a location.
+     *
+     * @param animation The animation.
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @param displayType The display type.
+     * @return A list with the players who are near the location and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull Animation animation, @NotNull Location center, double radius, @NotNull DisplayType displayType) {
+        return showAnimation(animation, getPlayerIndex().getPlayersNear(center, radius), displayType);
+    }
+
+    /**
+     * Shows an animation to all the players inside a box.
+     *
+     * @param animation The animation.
+     * @param corner A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @param displayType The display type.
+     * @return A list with the players who are inside the box and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull Animation animation, @NotNull Location corner, @NotNull Location otherCorner, @NotNull DisplayType displayType) {
+        return showAnimation(animation, getPlayerIndex().getPlayersIn(corner, otherCorner), displayType);
+    }
+
+    /**
+     * Shows an animation to all the players near a location who pass the condition.
+     *
+     * @param animation The animation.
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull Animation animation, @NotNull Location center, double radius, @NotNull DisplayType displayType, @NotNull Condition condition) {
+        return showAnimation(animation, getPlayerIndex().getPlayersNear(center, radius), displayType, condition);
+    }
+
+    /**
+     * Shows an animation to all the players inside a box who pass the condition.
+     *
+     * @param animation The animation.
+     * @param corner A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @param displayType The display type.
+     * @param condition The condition.
+     * @return A list with the players who pass the condition and the animation will be shown.
+     * @since 1.2.0
+     */
+    default @NotNull Collection<Player> showAnimation(@NotNull Animation animation, @NotNull Location corner, @NotNull Location otherCorner, @NotNull DisplayType displayType, @NotNull Condition condition) {
+        return showAnimation(animation, getPlayerIndex().getPlayersIn(corner, otherCorner), displayType, condition);
+    }
+
+    /**
+     * Creates an audience with the players in a world who pass a condition, that is kept up to date.
+     *
+     * @param world The world, or null to include the players of all the worlds.
+     * @param condition The condition, or null to include all the players.
+     * @return The audience.
+     * @since 1.2.0
+     */
+    @NotNull Audience createAudience(@Nullable World world, @Nullable Condition condition);
+
+    /**
+     * Shows a registered animation to the players of an audience.
+     *
+     * @param animationName The animation name.
+     * @param audience The audience.
+     * @param displayType The display type.
+     * @return A list with the players who pass the condition of the audience and the animation will be shown.
+     * @throws AnimationNotFoundException If the animation was not found.
+     * @throws IllegalStateException If the audience was closed.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull String animationName, @NotNull Audience audience, @NotNull DisplayType displayType) throws AnimationNotFoundException;
+
+    /**
+     * Shows a registered animation to the players of an audience.
+     *
+     * @param animation The animation reference.
+     * @param audience The audience.
+     * @param displayType The display type.
+     * @return A list with the players who pass the condition of the audience and the animation will be shown.
+     * @throws IllegalStateException If the audience was closed.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull AnimationRef animation, @NotNull Audience audience, @NotNull DisplayType displayType);
+
+    /**
+     * Shows an animation to the players of an audience.
+     *
+     * @param animation The animation.
+     * @param audience The audience.
+     * @param displayType The display type.
+     * @return A list with the players who pass the condition of the audience and the animation will be shown.
+     * @throws IllegalStateException If the audience was closed.
+     * @since 1.2.0
+     */
+    @NotNull Collection<Player> showAnimation(@NotNull Animation animation, @NotNull Audience audience, @NotNull DisplayType displayType);
+
+    /**
+     * Shows an animation and gives you a {@link es.hyrex.hyrexanimations.api.playback.PlaybackHandle} to control it while it is shown.
+     * <p>
+     * If the animation is not found, the result will be {@link ShowResult.Status#NOT_FOUND}.
+     *
+     * @param request The request.
+     * @return The result, with the playback if the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull ShowResult show(@NotNull ShowRequest request);
+
+    /**
+     * Shows an animation preparing its frames out of the main thread.
+     * <p>
+     * The frames are parsed and serialized in a worker pool, one tick ahead of the frame that is being shown.
+     * The placeholders and the {@link Condition.Type#EXPRESSION expressions} are resolved on the main thread, because most
+     * PlaceholderAPI expansions use the Bukkit API, unless the request allows it with {@link ShowRequest#withThreadSafePlaceholders(boolean)}.
+     * The packets sending, the commands and the events are always run on the main thread.
+     * This method can be called from any thread, and the future is completed on the main thread when the animation starts.
+     * <br>
+     * <b>The players collection of the request must not be modified until the future is completed.</b> This does not apply to the requests
+     * to an {@link Audience}, its players are taken on the main thread.
+     *
+     * @param request The request.
+     * @return A future with the result, with the playback if the animation will be shown.
+     * @since 1.2.0
+     */
+    @NotNull CompletableFuture<ShowResult> showAnimationAsync(@NotNull ShowRequest request);
+
+    /**
+     * Shows many animations at the same time.
+     * <p>
+     * The animation names are resolved and the conditions are evaluated once for all the requests, and a single
+     * {@link es.hyrex.hyrexanimations.api.events.AnimationBatchStartEvent} is called instead of an
+     * {@link es.hyrex.hyrexanimations.api.events.AnimationStartEvent} for each animation. For the requests to an {@link Audience},
+     * only the expressions of its condition are tested.
+     * If an animation is not found, its result will be {@link ShowResult.Status#NOT_FOUND} and the other requests will be shown.
+     *
+     * @param requests The requests.
+     * @return A list with the result of each request, in the same order as the requests.
+     * @since 1.2.0
+     */
+    @NotNull List<ShowResult> showAll(@NotNull Collection<ShowRequest> requests);
 }
@@ -0,0 +1,81 @@
+package es.hyrex.hyrexanimations.api;
+
+import es.hyrex.hyrexanimations.api.animation.PlaceholderResolver;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stores the resolved <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholders</a> of each player.
+ * <p>
+ * The plugin resolves all the placeholders through this cache: the ones in the frames, in the commands and in the sounds,
+ * for all the animations a player is seeing. So a placeholder is resolved only once per player and tick, even if it appears many times.
+ * <br>
+ * By default, a resolved value is kept until the end of the tick. You can keep some placeholders for longer,
+ * or for the whole session of the player if their value never changes. (Example: "%player_name%")
+ *
+ * @since 1.2.0
+ */
+public interface PlaceholderCache extends PlaceholderResolver {
+
+    /**
+     * The time to live of the placeholders that are kept until the player quits.
+     */
+    long SESSION = Long.MAX_VALUE;
+
+    /**
+     * Resolves a placeholder for a player, or gets the value that was already resolved.
+     *
+     * @param player      The player.
+     * @param placeholder The placeholder including the percent signs. (Example: "%player_name%")
+     * @return The resolved value as plain text.
+     * @since 1.2.0
+     */
+    @Override
+    @NotNull String resolve(@NotNull Player player, @NotNull String placeholder);
+
+    /**
+     * Sets how long the resolved value of a placeholder is kept.
+     *
+     * @param placeholder The placeholder including the percent signs.
+     * @param ticks       The time to live in ticks, 1 to keep it until the end of the tick, or {@link #SESSION} to keep it until the player quits.
+     * @throws IllegalArgumentException If the ticks are less than 1.
+     * @since 1.2.0
+     */
+    void setTimeToLive(@NotNull String placeholder, long ticks);
+
+    /**
+     * Gets how long the resolved value of a placeholder is kept.
+     *
+     * @param placeholder The placeholder including the percent signs.
+     * @return The time to live in ticks, or {@link #SESSION} if it is kept until the player quits.
+     * @since 1.2.0
+     */
+    long getTimeToLive(@NotNull String placeholder);
+
+    /**
+     * Keeps the resolved value of a placeholder until the player quits. Use it for placeholders whose value never changes.
+     *
+     * @param placeholder The placeholder including the percent signs.
+     * @since 1.2.0
+     */
+    default void setImmutable(@NotNull String placeholder) {
+        setTimeToLive(placeholder, SESSION);
+    }
+
+    /**
+     * Removes the resolved value of a placeholder for a player.
+     *
+     * @param player      The player.
+     * @param placeholder The placeholder including the percent signs.
+     * @since 1.2.0
+     */
+    void invalidate(@NotNull Player player, @NotNull String placeholder);
+
+    /**
+     * Removes all the resolved values of a player.
+     *
+     * @param player The player.
+     * @since 1.2.0
+     */
+    void invalidate(@NotNull Player player);
+}
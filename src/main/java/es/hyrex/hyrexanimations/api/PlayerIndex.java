@@ -0,0 +1,40 @@
+package es.hyrex.hyrexanimations.api;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Finds the online players near a location without checking all the players of the world.
+ * <p>
+ * The players are stored by the chunk they are in, and moved to other chunk when they move, teleport or change world.
+ * So finding the players in an area only checks the players of the chunks the area touches.
+ *
+ * @since 1.2.0
+ */
+public interface PlayerIndex {
+
+    /**
+     * Gets the players whose distance to a location is the radius or less.
+     *
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @return A list with the players in the radius.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @since 1.2.0
+     */
+    @NotNull List<Player> getPlayersNear(@NotNull Location center, double radius);
+
+    /**
+     * Gets the players inside a box.
+     *
+     * @param corner      A corner of the box.
+     * @param otherCorner The opposite corner of the box.
+     * @return A list with the players inside the box.
+     * @throws IllegalArgumentException If the corners are not in the same world.
+     * @since 1.2.0
+     */
+    @NotNull List<Player> getPlayersIn(@NotNull Location corner, @NotNull Location otherCorner);
+}
@@ -1,5 +1,6 @@
 package es.hyrex.hyrexanimations.api.animation;
 
+import es.hyrex.hyrexanimations.api.AnimationScheduler;
 import es.hyrex.hyrexanimations.api.HyrexAnimationsAPI;
 
 import org.jetbrains.annotations.NotNull;
@@ -17,7 +18,7 @@ import java.util.Objects;
  */
 public class Animation {
     private final @NotNull String name;
-    private final @NotNull List<String> frameList;
+    private final @NotNull FrameSource frameSource;
     private final @NotNull Double framesPerSecond;
     private final boolean useMiniMessage;
     private final boolean usePlaceholderAPI;
@@ -25,17 +26,20 @@ public class Animation {
     private final @NotNull Map<Integer, List<AnimationCommand>> commands;
 
     /**
+     * Creates an animation whose frames are given by a frame source.
+     *
      * @param name              The animation name.
-     * @param frameList         The list with the frames.
+     * @param frameSource       The frame source.
      * @param framesPerSecond   The frames per second.
      * @param useMiniMessage    If the animation uses <a href="https://docs.advntr.dev/minimessage/format.html">MiniMessage</a>.
      * @param usePlaceholderAPI If the animation uses <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholders</a>.
      * @param sounds            The sounds to play.
      * @param commands          The commands to execute.
+     * @since 1.2.0
      */
     public Animation(
             @NotNull String name,
-            @NotNull List<String> frameList,
+            @NotNull FrameSource frameSource,
             @NotNull Double framesPerSecond,
             boolean useMiniMessage,
             boolean usePlaceholderAPI,
@@ -43,7 +47,7 @@ public class Animation {
             @NotNull Map<Integer, List<AnimationCommand>> commands
     ) {
         this.name = name;
-        this.frameList = frameList;
+        this.frameSource = frameSource;
         this.framesPerSecond = framesPerSecond;
         this.useMiniMessage = useMiniMessage;
         this.usePlaceholderAPI = usePlaceholderAPI;
@@ -51,11 +55,51 @@ public class Animation {
         this.commands = commands;
     }
 
+    /**
+     * @param name              The animation name.
+     * @param frameList         The list with the frames. The frames are copied.
+     * @param framesPerSecond   The frames per second.
+     * @param useMiniMessage    If the animation uses <a href="https://docs.advntr.dev/minimessage/format.html">MiniMessage</a>.
+     * @param usePlaceholderAPI If the animation uses <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholders</a>.
+     * @param sounds            The sounds to play.
+     * @param commands          The commands to execute.
+     */
+    public Animation(
+            @NotNull String name,
+            @NotNull List<String> frameList,
+            @NotNull Double framesPerSecond,
+            boolean useMiniMessage,
+            boolean usePlaceholderAPI,
+            @NotNull Map<Integer, List<AnimationSound>> sounds,
+            @NotNull Map<Integer, List<AnimationCommand>> commands
+    ) {
+        this(name, FrameSource.of(frameList), framesPerSecond, useMiniMessage, usePlaceholderAPI, sounds, commands);
+    }
+
+    /**
+     * Creates an animation whose frames are given by a frame source, without sounds and commands.
+     *
+     * @param name              The animation name.
+     * @param frameSource       The frame source.
+     * @param framesPerSecond   The frames per second.
+     * @param useMiniMessage    If the animation uses <a href="https://docs.advntr.dev/minimessage/format.html">MiniMessage</a>.
+     * @param usePlaceholderAPI If the animation uses <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholders</a>.
+     * @since 1.2.0
+     */
+    public Animation(
+            @NotNull String name,
+            @NotNull FrameSource frameSource,
+            @NotNull Double framesPerSecond,
+            boolean useMiniMessage,
+            boolean usePlaceholderAPI) {
+        this(name, frameSource, framesPerSecond, useMiniMessage, usePlaceholderAPI, Map.of(), Map.of());
+    }
+
     /**
      * Creates an animation without sounds and commands.
      *
      * @param name              The animation name.
-     * @param frameList         The list with the frames.
+     * @param frameList         The list with the frames. The frames are copied.
      * @param framesPerSecond   The frames per second.
      * @param useMiniMessage    If the animation uses <a href="https://docs.advntr.dev/minimessage/format.html">MiniMessage</a>.
      * @param usePlaceholderAPI If the animation uses <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholders</a>.
@@ -80,10 +124,33 @@ public class Animation {
 
     /**
      * Gets the frame list.
-     * @return The frame list.
+     * <p>
+     * The list is always unmodifiable. Since 1.2.0, the frames of a list are copied when the animation is created, so later
+     * changes to that list are not seen. If the animation was created with a frame source that is not a list, the frames are created when they are read.
+     * @return An unmodifiable frame list.
      */
     public @NotNull List<String> getFrameList() {
-        return frameList;
+        return frameSource.asList();
+    }
+
+    /**
+     * Gets the frame source.
+     * @return The frame source.
+     * @since 1.2.0
+     */
+    public @NotNull FrameSource getFrameSource() {
+        return frameSource;
+    }
+
+    /**
+     * Gets the runs of repeated consecutive frames, so a held frame can be sent only once.
+     * <p>
+     * All the runs are stored in the list. To keep the memory constant for long generated animations, use {@link FrameSource#runIterator()}.
+     * @return The frame runs.
+     * @since 1.2.0
+     */
+    public @NotNull List<FrameRun> getFrameRuns() {
+        return frameSource.getRuns();
     }
 
     /**
@@ -94,6 +161,28 @@ public class Animation {
         return framesPerSecond;
     }
 
+    /**
+     * Gets the tick, relative to the start of the animation, when a frame is shown.
+     * <p>
+     * The ticks are calculated from the start of the animation and not from the previous frame, so the animation does not drift
+     * when the frames per second are not a divisor of {@value AnimationScheduler#TICKS_PER_SECOND}.
+     * If many frames fall on the same tick, only the last one is shown.
+     *
+     * @param frame The frame index. Using the frames count gives the duration of the animation.
+     * @return The tick when the frame is shown.
+     * @throws IllegalArgumentException If the frames per second are not greater than 0.
+     * @since 1.2.0
+     */
+    public long getFrameTick(int frame) {
+        if (!(framesPerSecond > 0)) {
+            throw new IllegalArgumentException("The animation \"" + name + "\" frames per second must be greater than 0: " + framesPerSecond);
+        }
+        double tick = (double) frame * AnimationScheduler.TICKS_PER_SECOND / framesPerSecond;
+        // The quotient can be slightly below an exact tick (1.1 fps gives 199.99999999999997 for the frame 11), so it is rounded when it is that close.
+        double exact = Math.rint(tick);
+        return (long) (Math.abs(tick - exact) <= 1e-9 * Math.max(1, exact) ? exact : Math.floor(tick));
+    }
+
     /**
      * Gets if the animation uses <a href="https://docs.advntr.dev/minimessage/format.html">MiniMessage</a>.
      * @return If the animation uses MiniMessage.
@@ -132,7 +221,7 @@ public class Animation {
         if (obj == null || obj.getClass() != this.getClass()) return false;
         var that = (Animation) obj;
         return Objects.equals(this.name, that.name) &&
-                Objects.equals(this.frameList, that.frameList) &&
+                Objects.equals(this.frameSource, that.frameSource) &&
                 Objects.equals(this.framesPerSecond, that.framesPerSecond) &&
                 this.useMiniMessage == that.useMiniMessage &&
                 this.usePlaceholderAPI == that.usePlaceholderAPI &&
@@ -142,14 +231,14 @@ public class Animation {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, frameList, framesPerSecond, useMiniMessage, usePlaceholderAPI, sounds, commands);
+        return Objects.hash(name, frameSource, framesPerSecond, useMiniMessage, usePlaceholderAPI, sounds, commands);
     }
 
     @Override
     public String toString() {
         return "Animation[" +
                 "name=" + name + ", " +
-                "frameList=" + frameList + ", " +
+                "frameList=" + frameSource + ", " +
                 "framesPerSecond=" + framesPerSecond + ", " +
                 "useMiniMessage=" + useMiniMessage + ", " +
                 "usePlaceholderAPI=" + usePlaceholderAPI + ", " +
@@ -0,0 +1,85 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import es.hyrex.hyrexanimations.api.HyrexAnimationsAPI;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a registered animation that was already looked up, so it can be shown many times without looking it up again.
+ * <p>
+ * Get it with {@link HyrexAnimationsAPI#resolve(String)} and keep it, for example in a field of your plugin.
+ * <br>
+ * References are equal if they have the same id and the same animation instance, so the references to the old and new
+ * versions of a reloaded animation are not equal. The frames are never compared.
+ *
+ * @since 1.2.0
+ */
+public class AnimationRef {
+    private final int id;
+    private final @NotNull AnimationType type;
+    private final @NotNull Animation animation;
+
+    /**
+     * @param id        The id the plugin gave to the animation when it was registered.
+     * @param type      The animation type.
+     * @param animation The animation.
+     */
+    public AnimationRef(int id, @NotNull AnimationType type, @NotNull Animation animation) {
+        this.id = id;
+        this.type = type;
+        this.animation = animation;
+    }
+
+    /**
+     * Gets the id the plugin gave to the animation when it was registered. It does not change while the server is running.
+     * @return The animation id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the animation name.
+     * @return The animation name.
+     */
+    public @NotNull String getName() {
+        return animation.getName();
+    }
+
+    /**
+     * Gets the animation type.
+     * @return The animation type.
+     */
+    public @NotNull AnimationType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the animation.
+     * @return The animation.
+     */
+    public @NotNull Animation getAnimation() {
+        return animation;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (AnimationRef) obj;
+        return this.id == that.id &&
+                this.animation == that.animation;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "AnimationRef[" +
+                "id=" + id + ", " +
+                "type=" + type + ", " +
+                "name=" + animation.getName() + ']';
+    }
+}
@@ -49,6 +49,15 @@ public class AnimationSound {
         return value;
     }
 
+    /**
+     * Gets the sound key, made of the namespace and the name.
+     * @return The sound key. (Example: "minecraft:entity.player.levelup")
+     * @since 1.2.0
+     */
+    public @NotNull String getKey() {
+        return namespace + ":" + value;
+    }
+
     /**
      * Gets the sound source.
      * @return The sound source.
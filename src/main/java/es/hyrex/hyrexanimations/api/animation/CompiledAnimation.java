@@ -0,0 +1,112 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import es.hyrex.hyrexanimations.api.HyrexAnimationsAPI;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents an animation whose frames were already parsed and serialized.
+ * <p>
+ * Get it with {@link HyrexAnimationsAPI#compile(Animation)}. It can be passed to every method that accepts an
+ * {@link Animation}, and the frames will not be parsed again while it is shown.
+ *
+ * @since 1.2.0
+ */
+public class CompiledAnimation extends Animation {
+    private final @NotNull List<CompiledFrame> compiledFrames;
+    private final @NotNull Map<Integer, List<AnimationSound>> frameSounds;
+    private final @NotNull Set<AnimationSound> unknownSounds;
+
+    /**
+     * @param animation      The animation that was compiled.
+     * @param compiledFrames The compiled frames, one for each frame of the animation. For long animations, it can be a list that compiles the frames when they are read.
+     * @param unknownSounds  The sounds of the animation that were not found, they will not be played.
+     * @throws IllegalArgumentException If the compiled frames count does not match the frames count.
+     */
+    public CompiledAnimation(@NotNull Animation animation, @NotNull List<CompiledFrame> compiledFrames, @NotNull Set<AnimationSound> unknownSounds) {
+        super(
+                animation.getName(),
+                animation.getFrameSource(),
+                animation.getFramesPerSecond(),
+                animation.getUseMiniMessage(),
+                animation.getUsePlaceholderAPI(),
+                animation.getSounds(),
+                animation.getCommands()
+        );
+        if (compiledFrames.size() != animation.getFrameSource().size()) {
+            throw new IllegalArgumentException("The animation \"" + animation.getName() + "\" has " + animation.getFrameSource().size()
+                    + " frames but " + compiledFrames.size() + " compiled frames were given.");
+        }
+        this.compiledFrames = Collections.unmodifiableList(compiledFrames);
+        this.unknownSounds = Set.copyOf(unknownSounds);
+
+        Map<Integer, List<AnimationSound>> frameSounds = new HashMap<>();
+        animation.getSounds().forEach((frame, sounds) -> {
+            Set<AnimationSound> playable = new LinkedHashSet<>(sounds);
+            playable.removeAll(this.unknownSounds);
+            if (!playable.isEmpty()) frameSounds.put(frame, List.copyOf(playable));
+        });
+        this.frameSounds = Map.copyOf(frameSounds);
+    }
+
+    /**
+     * @param animation      The animation that was compiled.
+     * @param compiledFrames The compiled frames, one for each frame of the animation. For long animations, it can be a list that compiles the frames when they are read.
+     * @throws IllegalArgumentException If the compiled frames count does not match the frames count.
+     */
+    public CompiledAnimation(@NotNull Animation animation, @NotNull List<CompiledFrame> compiledFrames) {
+        this(animation, compiledFrames, Set.of());
+    }
+
+    /**
+     * Gets the compiled frames.
+     * @return The compiled frames.
+     */
+    public @NotNull List<CompiledFrame> getCompiledFrames() {
+        return compiledFrames;
+    }
+
+    /**
+     * Gets a compiled frame.
+     * @param index The frame index.
+     * @return The compiled frame.
+     */
+    public @NotNull CompiledFrame getCompiledFrame(int index) {
+        return compiledFrames.get(index);
+    }
+
+    /**
+     * Gets the sounds to play on a frame, without duplicates and without the {@link #getUnknownSounds() unknown sounds}.
+     * @param frame The frame index.
+     * @return The sounds to play, or an empty list if there are no sounds on the frame.
+     */
+    public @NotNull List<AnimationSound> getFrameSounds(int frame) {
+        return frameSounds.getOrDefault(frame, List.of());
+    }
+
+    /**
+     * Gets the sounds of the animation that were not found when it was compiled. They will not be played.
+     * @return The unknown sounds.
+     */
+    public @NotNull Set<AnimationSound> getUnknownSounds() {
+        return unknownSounds;
+    }
+
+    /**
+     * Gets if no frame has placeholders, so every player sees the same frames.
+     * @return If no frame has placeholders.
+     */
+    public boolean isStatic() {
+        for (CompiledFrame frame : compiledFrames) {
+            if (!frame.isStatic()) return false;
+        }
+        return true;
+    }
+}
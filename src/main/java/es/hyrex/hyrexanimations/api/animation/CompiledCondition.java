@@ -0,0 +1,30 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Represents a condition that was already parsed, so it can be tested many times without parsing it again.
+ *
+ * @since 1.2.0
+ */
+public interface CompiledCondition extends Predicate<Player> {
+
+    /**
+     * Gets the condition that was compiled.
+     *
+     * @return The condition.
+     */
+    @NotNull Condition getCondition();
+
+    /**
+     * Tests the condition for a player.
+     *
+     * @param player The player.
+     * @return True if the player passes the condition.
+     */
+    @Override
+    boolean test(@NotNull Player player);
+}
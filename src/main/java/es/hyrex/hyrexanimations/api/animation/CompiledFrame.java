@@ -0,0 +1,160 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents a frame that was already parsed and serialized to a JSON text component.
+ * <p>
+ * The placeholders found in the payload are stored as slots, so showing the frame to a player only needs to fill
+ * those slots instead of parsing the frame again.
+ *
+ * @since 1.2.0
+ */
+public class CompiledFrame {
+    private final @NotNull String payload;
+    private final @NotNull String[] placeholders;
+    private final int[] slotStarts;
+    private final int[] slotEnds;
+
+    /**
+     * @param payload           The frame serialized as a JSON text component.
+     * @param usePlaceholderAPI If the payload should be scanned for <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholders</a>.
+     */
+    public CompiledFrame(@NotNull String payload, boolean usePlaceholderAPI) {
+        this.payload = payload;
+
+        List<Integer> starts = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        if (usePlaceholderAPI) {
+            int start = payload.indexOf('%');
+            while (start != -1) {
+                int end = payload.indexOf('%', start + 1);
+                if (end == -1) break;
+                if (end - start > 1 && isPlaceholder(payload, start + 1, end)) {
+                    starts.add(start);
+                    ends.add(end + 1);
+                    start = payload.indexOf('%', end + 1);
+                } else {
+                    start = end;
+                }
+            }
+        }
+
+        this.slotStarts = new int[starts.size()];
+        this.slotEnds = new int[ends.size()];
+        this.placeholders = new String[starts.size()];
+        for (int i = 0; i < slotStarts.length; i++) {
+            slotStarts[i] = starts.get(i);
+            slotEnds[i] = ends.get(i);
+            placeholders[i] = payload.substring(slotStarts[i], slotEnds[i]);
+        }
+    }
+
+    /**
+     * Gets the frame serialized as a JSON text component, with the placeholders not resolved.
+     * @return The serialized frame.
+     */
+    public @NotNull String getPayload() {
+        return payload;
+    }
+
+    /**
+     * Gets the placeholders of the frame in the order they appear.
+     * @return The placeholders.
+     */
+    public @NotNull List<String> getPlaceholders() {
+        return Collections.unmodifiableList(Arrays.asList(placeholders));
+    }
+
+    /**
+     * Gets if the frame has no placeholders, so every player sees the same payload.
+     * @return If the frame has no placeholders.
+     */
+    public boolean isStatic() {
+        return placeholders.length == 0;
+    }
+
+    /**
+     * Fills the placeholder slots for a player.
+     * <p>
+     * The resolved values are escaped to be valid inside a JSON string.
+     *
+     * @param player   The player.
+     * @param resolver The placeholder resolver.
+     * @return The serialized frame for the player.
+     */
+    public @NotNull String resolve(@NotNull Player player, @NotNull PlaceholderResolver resolver) {
+        if (placeholders.length == 0) return payload;
+
+        StringBuilder builder = new StringBuilder(payload.length() + 16 * placeholders.length);
+        int last = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(payload, last, slotStarts[i]);
+            JsonText.appendEscaped(builder, resolver.resolve(player, placeholders[i]));
+            last = slotEnds[i];
+        }
+        return builder.append(payload, last, payload.length()).toString();
+    }
+
+    /**
+     * Groups the players by the payload they will see, so each distinct payload is encoded only once
+     * and the same packet is sent to all the players of the group.
+     * <p>
+     * If the frame is {@link #isStatic() static}, all the players are in a single group and the resolver is not called.
+     * The players are not copied in that case, the group is a read-only view of the given collection.
+     *
+     * @param players  The players.
+     * @param resolver The placeholder resolver.
+     * @return A map with the payloads and the players who will see them, in the order the payloads were found.
+     */
+    public @NotNull Map<String, Collection<? extends Player>> groupByPayload(@NotNull Collection<? extends Player> players, @NotNull PlaceholderResolver resolver) {
+        if (placeholders.length == 0) {
+            return players.isEmpty() ? Map.of() : Map.of(payload, Collections.unmodifiableCollection(players));
+        }
+
+        Map<String, List<Player>> groups = new LinkedHashMap<>();
+        for (Player player : players) {
+            groups.computeIfAbsent(resolve(player, resolver), key -> new ArrayList<>()).add(player);
+        }
+        return Collections.unmodifiableMap(groups);
+    }
+
+    private static boolean isPlaceholder(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == '"' || c == '\\') return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (CompiledFrame) obj;
+        return Objects.equals(this.payload, that.payload) &&
+                Arrays.equals(this.placeholders, that.placeholders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(payload, Arrays.hashCode(placeholders));
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledFrame[" +
+                "payload=" + payload + ", " +
+                "placeholders=" + Arrays.toString(placeholders) + ']';
+    }
+}
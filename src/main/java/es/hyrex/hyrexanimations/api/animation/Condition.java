@@ -1,26 +1,51 @@
 package es.hyrex.hyrexanimations.api.animation;
 
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.BiPredicate;
 
 /**
  * Conditions let you select to whom the animation will be shown. (See <a href="https://docs.hyrex.es/hyrex-animations/conditions">Conditions</a>)
  */
 public class Condition {
+    /**
+     * The id of the conditions created without id.
+     *
+     * @since 1.2.0
+     */
+    public static final String CUSTOM_ID = "custom";
+
     private final @NotNull String id;
     private final @NotNull Type type;
     private final @NotNull String value;
+    private final @NotNull List<Condition> children;
+    private final int hash;
+
+    private Condition(@NotNull String id, @NotNull Type type, @NotNull String value, @NotNull List<Condition> children) {
+        this.id = id;
+        this.type = type;
+        this.value = value;
+        this.children = children;
+        // Conditions are immutable and used as keys of the compiled conditions, so the hash of the whole tree is computed once.
+        this.hash = Objects.hash(id, type, value, children);
+    }
 
     /**
      * @param id    The id of the condition.
      * @param type  The type of the condition.
      * @param value The value of the condition.
+     * @throws IllegalArgumentException If the type is a composite type. Use {@link #and(Condition...)}, {@link #or(Condition...)} or {@link #not(Condition)}.
      */
     public Condition(@NotNull String id, @NotNull Type type, @NotNull String value) {
-        this.id = id;
-        this.type = type;
-        this.value = value;
+        this(id, type, value, List.of());
+        if (type.isComposite()) {
+            throw new IllegalArgumentException("The condition type " + type + " needs child conditions.");
+        }
     }
 
     /**
@@ -30,7 +55,50 @@ public class Condition {
      * @param value The value of the condition.
      */
     public Condition(@NotNull Type type, @NotNull String value) {
-        this("custom", type, value);
+        this(CUSTOM_ID, type, value);
+    }
+
+    /**
+     * Creates a condition that is passed if the player passes all the conditions.
+     *
+     * @param conditions The conditions.
+     * @return The new condition.
+     * @since 1.2.0
+     */
+    public static @NotNull Condition and(@NotNull Condition... conditions) {
+        return composite(Type.AND, conditions);
+    }
+
+    /**
+     * Creates a condition that is passed if the player passes any of the conditions.
+     *
+     * @param conditions The conditions.
+     * @return The new condition.
+     * @since 1.2.0
+     */
+    public static @NotNull Condition or(@NotNull Condition... conditions) {
+        return composite(Type.OR, conditions);
+    }
+
+    /**
+     * Creates a condition that is passed if the player does not pass the condition.
+     *
+     * @param condition The condition.
+     * @return The new condition.
+     * @since 1.2.0
+     */
+    public static @NotNull Condition not(@NotNull Condition condition) {
+        return composite(Type.NOT, condition);
+    }
+
+    private static Condition composite(Type type, Condition... conditions) {
+        if (conditions.length == 0) {
+            throw new IllegalArgumentException("The condition type " + type + " needs child conditions.");
+        }
+        List<Condition> children = new ArrayList<>(List.of(conditions));
+        // The cheapest conditions are tested first, so the costly ones are skipped when the result is already known.
+        children.sort(Comparator.comparingInt(Condition::getCost));
+        return new Condition(CUSTOM_ID, type, "", List.copyOf(children));
     }
 
     /**
@@ -57,19 +125,93 @@ public class Condition {
         return value;
     }
 
+    /**
+     * Gets the child conditions of a composite condition, ordered by cost.
+     * @return The child conditions, or an empty list if the condition is not composite.
+     * @since 1.2.0
+     */
+    public @NotNull List<Condition> getChildren() {
+        return children;
+    }
+
+    /**
+     * Gets an estimation of how costly is to test the condition. Permissions are cheap and expressions are costly.
+     * @return The condition cost.
+     * @since 1.2.0
+     */
+    public int getCost() {
+        switch (type) {
+            case HAS_PERMISSION:
+            case NOT_HAVE_PERMISSION:
+                return 1;
+            case EXPRESSION:
+                return 10;
+            default:
+                int cost = 0;
+                for (Condition child : children) {
+                    cost += child.getCost();
+                }
+                return cost;
+        }
+    }
+
+    /**
+     * Tests the condition for a player, stopping as soon as the result is known.
+     *
+     * @param player              The player.
+     * @param expressionEvaluator The function that tests the {@link Type#EXPRESSION expressions}.
+     * @return True if the player passes the condition.
+     * @since 1.2.0
+     */
+    public boolean test(@NotNull Player player, @NotNull BiPredicate<Player, Condition> expressionEvaluator) {
+        switch (type) {
+            case HAS_PERMISSION:
+                return player.hasPermission(value);
+            case NOT_HAVE_PERMISSION:
+                return !player.hasPermission(value);
+            case EXPRESSION:
+                return expressionEvaluator.test(player, this);
+            case AND:
+                for (Condition child : children) {
+                    if (!child.test(player, expressionEvaluator)) return false;
+                }
+                return true;
+            case OR:
+                for (Condition child : children) {
+                    if (child.test(player, expressionEvaluator)) return true;
+                }
+                return false;
+            case NOT:
+                return !children.get(0).test(player, expressionEvaluator);
+            default:
+                throw new IllegalStateException("Unknown condition type: " + type);
+        }
+    }
+
+    /**
+     * Gets if the condition was created without id.
+     * @return If the condition id is {@value #CUSTOM_ID}.
+     * @since 1.2.0
+     */
+    public boolean isCustom() {
+        return CUSTOM_ID.equals(id);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || obj.getClass() != this.getClass()) return false;
         var that = (Condition) obj;
-        return Objects.equals(this.id, that.id) &&
+        return this.hash == that.hash &&
+                Objects.equals(this.id, that.id) &&
                 Objects.equals(this.type, that.type) &&
-                Objects.equals(this.value, that.value);
+                Objects.equals(this.value, that.value) &&
+                Objects.equals(this.children, that.children);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, type, value);
+        return hash;
     }
 
     @Override
@@ -77,7 +219,8 @@ public class Condition {
         return "Condition[" +
                 "id=" + id + ", " +
                 "type=" + type + ", " +
-                "value=" + value + ']';
+                "value=" + value + ", " +
+                "children=" + children + ']';
     }
 
 
@@ -98,6 +241,34 @@ public class Condition {
         /**
          * Will be shown if the player passes the expression. (See <a href="https://docs.hyrex.es/hyrex-animations/expressions">Expressions</a>)
          */
-        EXPRESSION
+        EXPRESSION,
+        /**
+         * Will be shown if the player passes all the child conditions. (See {@link #and(Condition...)})
+         *
+         * @since 1.2.0
+         */
+        AND,
+        /**
+         * Will be shown if the player passes any of the child conditions. (See {@link #or(Condition...)})
+         *
+         * @since 1.2.0
+         */
+        OR,
+        /**
+         * Will be shown if the player does not pass the child condition. (See {@link #not(Condition)})
+         *
+         * @since 1.2.0
+         */
+        NOT;
+
+        /**
+         * Gets if the type is made of child conditions.
+         *
+         * @return True if the type is {@link #AND}, {@link #OR} or {@link #NOT}.
+         * @since 1.2.0
+         */
+        public boolean isComposite() {
+            return this == AND || this == OR || this == NOT;
+        }
     }
 }
\ No newline at end of file
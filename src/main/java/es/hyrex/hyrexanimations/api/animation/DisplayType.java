@@ -7,13 +7,32 @@ public enum DisplayType {
     /**
      * The animation will be displayed in the title.
      */
-    TITLE,
+    TITLE(0),
     /**
      * The animation will be displayed in the subtitle.
      */
-    SUBTITLE,
+    SUBTITLE(0),
     /**
      * The animation will be displayed in the action bar.
      */
-    ACTIONBAR,
+    ACTIONBAR(40);
+
+    private final int refreshTicks;
+
+    DisplayType(int refreshTicks) {
+        this.refreshTicks = refreshTicks;
+    }
+
+    /**
+     * Gets how often a frame that does not change must be sent again so the client keeps showing it.
+     * <p>
+     * The titles and subtitles are kept with their stay time, so they do not need to be sent again.
+     * The action bar starts fading 40 ticks after it is received.
+     *
+     * @return The ticks between refreshes, or 0 if the frame does not need to be sent again.
+     * @since 1.2.0
+     */
+    public int getRefreshTicks() {
+        return refreshTicks;
+    }
 }
@@ -0,0 +1,94 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a frame that is repeated in consecutive positions of an animation, used to hold a frame.
+ * <p>
+ * A run is sent only once: for titles, its stay time covers the whole run; for the action bar, it is sent again
+ * every {@link DisplayType#getRefreshTicks()} ticks.
+ *
+ * @since 1.2.0
+ */
+public class FrameRun {
+    private final @NotNull String frame;
+    private final int start;
+    private final int length;
+
+    /**
+     * @param frame  The frame.
+     * @param start  The index of the first position of the run.
+     * @param length The number of positions of the run.
+     */
+    public FrameRun(@NotNull String frame, int start, int length) {
+        this.frame = frame;
+        this.start = start;
+        this.length = length;
+    }
+
+    /**
+     * Gets the frame.
+     * @return The frame.
+     */
+    public @NotNull String getFrame() {
+        return frame;
+    }
+
+    /**
+     * Gets the index of the first position of the run.
+     * @return The first index.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the number of positions of the run.
+     * @return The run length.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Gets the index after the last position of the run.
+     * @return The end index, exclusive.
+     */
+    public int getEnd() {
+        return start + length;
+    }
+
+    /**
+     * Gets how many ticks the run is shown in an animation.
+     * @param animation The animation.
+     * @return The run duration in ticks.
+     */
+    public long getDurationTicks(@NotNull Animation animation) {
+        return animation.getFrameTick(getEnd()) - animation.getFrameTick(start);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (FrameRun) obj;
+        return Objects.equals(this.frame, that.frame) &&
+                this.start == that.start &&
+                this.length == that.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frame, start, length);
+    }
+
+    @Override
+    public String toString() {
+        return "FrameRun[" +
+                "frame=" + frame + ", " +
+                "start=" + start + ", " +
+                "length=" + length + ']';
+    }
+}
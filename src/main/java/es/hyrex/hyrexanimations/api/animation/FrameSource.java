@@ -0,0 +1,153 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * Gives the frames of an {@link Animation}.
+ * <p>
+ * The frames can be stored in a list, or created when they are needed, so long or procedural animations
+ * (countdowns, marquees, progress bars...) do not need to keep all their frames in memory.
+ *
+ * @since 1.2.0
+ */
+public interface FrameSource extends Iterable<String> {
+
+    /**
+     * Creates a frame source with the frames of a list.
+     * <p>
+     * The frames are copied, so later changes to the list are not seen and {@link #asList()} is always unmodifiable.
+     * If the list has repeated consecutive frames, they are stored only once with a {@link RunLengthFrameSource}.
+     *
+     * @param frames The frames.
+     * @return The frame source.
+     */
+    static @NotNull FrameSource of(@NotNull List<String> frames) {
+        for (int i = 1; i < frames.size(); i++) {
+            if (frames.get(i).equals(frames.get(i - 1))) return new RunLengthFrameSource(frames);
+        }
+        return new ListFrameSource(List.copyOf(frames));
+    }
+
+    /**
+     * Creates a frame source that creates each frame when it is needed.
+     * <p>
+     * The generator must always return the same frame for the same index. The animations created with it are equal only
+     * if they use the same frame source instance.
+     *
+     * @param size      The frames count.
+     * @param generator The function that creates a frame from its index.
+     * @return The frame source.
+     */
+    static @NotNull FrameSource generated(int size, @NotNull IntFunction<String> generator) {
+        return new GeneratedFrameSource(size, generator);
+    }
+
+    /**
+     * Gets the frames count.
+     *
+     * @return The frames count.
+     */
+    int size();
+
+    /**
+     * Gets a frame.
+     *
+     * @param index The frame index.
+     * @return The frame.
+     * @throws IndexOutOfBoundsException If the index is not between 0 and {@link #size()}.
+     */
+    @NotNull String getFrame(int index);
+
+    /**
+     * Gets the runs of repeated consecutive frames. A frame that is not repeated is a run of length 1.
+     * <p>
+     * All the runs are stored in the list. For the sources that create their frames when they are needed, use {@link #runIterator()}.
+     *
+     * @return The runs, in order.
+     */
+    default @NotNull List<FrameRun> getRuns() {
+        List<FrameRun> runs = new ArrayList<>();
+        runIterator().forEachRemaining(runs::add);
+        return runs;
+    }
+
+    /**
+     * Iterates the runs of repeated consecutive frames, reading each frame only when the iteration reaches it.
+     * Only the current run is kept in memory.
+     *
+     * @return An iterator over the runs, in order.
+     */
+    default @NotNull Iterator<FrameRun> runIterator() {
+        return new Iterator<>() {
+            private final int size = size();
+            private int start = 0;
+            private String frame = size > 0 ? getFrame(0) : null;
+
+            @Override
+            public boolean hasNext() {
+                return frame != null;
+            }
+
+            @Override
+            public FrameRun next() {
+                if (frame == null) throw new NoSuchElementException();
+                int end = start + 1;
+                String following = null;
+                while (end < size) {
+                    following = getFrame(end);
+                    if (!following.equals(frame)) break;
+                    following = null;
+                    end++;
+                }
+                FrameRun run = new FrameRun(frame, start, end - start);
+                start = end;
+                frame = following;
+                return run;
+            }
+        };
+    }
+
+    /**
+     * Gets the frames as a list. The frames are not copied, they are got from this source when they are read.
+     *
+     * @return An unmodifiable list with the frames.
+     */
+    default @NotNull List<String> asList() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return getFrame(index);
+            }
+
+            @Override
+            public int size() {
+                return FrameSource.this.size();
+            }
+        };
+    }
+
+    @Override
+    default @NotNull Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return getFrame(next++);
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link FrameSource} that creates each frame when it is needed. (See {@link FrameSource#generated(int, IntFunction)})
+ * <p>
+ * It is compared by identity, comparing the frames would create all of them.
+ */
+class GeneratedFrameSource implements FrameSource {
+    private final int size;
+    private final @NotNull IntFunction<String> generator;
+
+    GeneratedFrameSource(int size, @NotNull IntFunction<String> generator) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The frames count can't be negative: " + size);
+        }
+        this.size = size;
+        this.generator = generator;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull String getFrame(int index) {
+        Objects.checkIndex(index, size);
+        return generator.apply(index);
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedFrameSource[" +
+                "size=" + size + ']';
+    }
+}
@@ -0,0 +1,189 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The glyphs of a {@link AnimationType#TEXTURE texture pack animation}, each frame being a sequence of custom font characters.
+ * <p>
+ * The atlas is built once when the animation is loaded and shared by all the playbacks. Equal frames share the same glyph,
+ * which keeps its codepoints and its text component already serialized.
+ *
+ * @since 1.2.0
+ */
+public class GlyphAtlas {
+    private final @NotNull String animationName;
+    private final @Nullable String font;
+    private final @NotNull List<Glyph> glyphs;
+    private final int[] runStarts;
+    private final int[] runGlyphs;
+    private final int frameCount;
+
+    private GlyphAtlas(@NotNull String animationName, @Nullable String font, @NotNull List<Glyph> glyphs, int[] runStarts, int[] runGlyphs, int frameCount) {
+        this.animationName = animationName;
+        this.font = font;
+        this.glyphs = glyphs;
+        this.runStarts = runStarts;
+        this.runGlyphs = runGlyphs;
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * Builds the atlas of an animation.
+     *
+     * @param animation The animation, whose frames are made of custom font characters.
+     * @param font      The font of the resource pack that has the characters (Example: "hyrex:animations"), or null to use the default font.
+     * @return The glyph atlas.
+     */
+    public static @NotNull GlyphAtlas build(@NotNull Animation animation, @Nullable String font) {
+        List<FrameRun> runs = animation.getFrameRuns();
+        Map<String, Integer> glyphIndexes = new HashMap<>();
+        List<Glyph> glyphs = new ArrayList<>();
+        int[] runStarts = new int[runs.size()];
+        int[] runGlyphs = new int[runs.size()];
+
+        for (int i = 0; i < runs.size(); i++) {
+            FrameRun run = runs.get(i);
+            runStarts[i] = run.getStart();
+            runGlyphs[i] = glyphIndexes.computeIfAbsent(run.getFrame(), frame -> {
+                glyphs.add(new Glyph(frame.codePoints().toArray(), font));
+                return glyphs.size() - 1;
+            });
+        }
+        return new GlyphAtlas(animation.getName(), font, List.copyOf(glyphs), runStarts, runGlyphs, animation.getFrameSource().size());
+    }
+
+    /**
+     * Gets the animation name.
+     * @return The animation name.
+     */
+    public @NotNull String getAnimationName() {
+        return animationName;
+    }
+
+    /**
+     * Gets the font of the resource pack that has the characters.
+     * @return The font or null if the default font is used.
+     */
+    public @Nullable String getFont() {
+        return font;
+    }
+
+    /**
+     * Gets the distinct glyphs of the animation.
+     * @return An unmodifiable list with the glyphs.
+     */
+    public @NotNull List<Glyph> getGlyphs() {
+        return glyphs;
+    }
+
+    /**
+     * Gets the glyph of a frame.
+     * @param frame The frame index.
+     * @return The glyph.
+     * @throws IndexOutOfBoundsException If the frame index is not in the animation.
+     */
+    public @NotNull Glyph getGlyph(int frame) {
+        Objects.checkIndex(frame, frameCount);
+        int run = Arrays.binarySearch(runStarts, frame);
+        return glyphs.get(runGlyphs[run >= 0 ? run : -run - 2]);
+    }
+
+    /**
+     * Gets the frames count.
+     * @return The frames count.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    @Override
+    public String toString() {
+        return "GlyphAtlas[" +
+                "animationName=" + animationName + ", " +
+                "font=" + font + ", " +
+                "glyphs=" + glyphs.size() + ", " +
+                "frames=" + frameCount + ']';
+    }
+
+
+    /**
+     * Represents a frame of a texture pack animation.
+     *
+     * @since 1.2.0
+     */
+    public static class Glyph {
+        private final int[] codepoints;
+        private final @NotNull String text;
+        private final @NotNull String json;
+
+        /**
+         * @param codepoints The codepoints of the characters.
+         * @param font       The font of the resource pack that has the characters, or null to use the default font.
+         */
+        public Glyph(int[] codepoints, @Nullable String font) {
+            this.codepoints = codepoints.clone();
+            this.text = new String(codepoints, 0, codepoints.length);
+
+            StringBuilder json = new StringBuilder("{\"text\":\"");
+            JsonText.appendEscaped(json, text);
+            json.append('"');
+            if (font != null) {
+                json.append(",\"font\":\"");
+                JsonText.appendEscaped(json, font);
+                json.append('"');
+            }
+            this.json = json.append('}').toString();
+        }
+
+        /**
+         * Gets the codepoints of the characters.
+         * @return A copy of the codepoints.
+         */
+        public int[] getCodepoints() {
+            return codepoints.clone();
+        }
+
+        /**
+         * Gets the characters as text.
+         * @return The text.
+         */
+        public @NotNull String getText() {
+            return text;
+        }
+
+        /**
+         * Gets the glyph serialized as a JSON text component, with the font.
+         * @return The serialized glyph.
+         */
+        public @NotNull String getJson() {
+            return json;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (obj == null || obj.getClass() != this.getClass()) return false;
+            var that = (Glyph) obj;
+            return Objects.equals(this.json, that.json);
+        }
+
+        @Override
+        public int hashCode() {
+            return json.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Glyph[" +
+                    "json=" + json + ']';
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+/**
+ * Writes values inside the JSON strings of the serialized frames and glyphs.
+ * <p>
+ * Only the characters JSON requires are escaped. Other characters are kept as they are, like in the rest of the payload.
+ */
+final class JsonText {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonText() {
+    }
+
+    /**
+     * Appends a value escaped to be valid inside a JSON string.
+     *
+     * @param builder The builder.
+     * @param value   The value.
+     */
+    static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+    }
+}
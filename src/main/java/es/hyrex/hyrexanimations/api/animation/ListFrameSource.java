@@ -0,0 +1,51 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link FrameSource} backed by a list. It is the frame source of the animations created with a frame list without repeated consecutive frames.
+ * <p>
+ * The list is not copied, but it can't be modified through {@link #asList()}. {@link FrameSource#of(List)} gives it a copy of the frames.
+ * It is equal to the other list and {@link RunLengthFrameSource run-length} sources with the same frames.
+ *
+ * @since 1.2.0
+ */
+public class ListFrameSource extends StoredFrameSource {
+    private final @NotNull List<String> frames;
+
+    /**
+     * @param frames The frames.
+     */
+    public ListFrameSource(@NotNull List<String> frames) {
+        this.frames = frames;
+    }
+
+    @Override
+    public int size() {
+        return frames.size();
+    }
+
+    @Override
+    public @NotNull String getFrame(int index) {
+        return frames.get(index);
+    }
+
+    @Override
+    public @NotNull List<String> asList() {
+        return Collections.unmodifiableList(frames);
+    }
+
+    @Override
+    public @NotNull Iterator<String> iterator() {
+        return Collections.unmodifiableList(frames).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return frames.toString();
+    }
+}
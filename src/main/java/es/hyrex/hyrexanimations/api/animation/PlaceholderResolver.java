@@ -0,0 +1,22 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Resolves a single <a href="https://www.spigotmc.org/resources/placeholderapi.6245/">PlaceholderAPI placeholder</a> for a player.
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+    /**
+     * Resolves a placeholder for a player.
+     *
+     * @param player      The player.
+     * @param placeholder The placeholder including the percent signs. (Example: "%player_name%")
+     * @return The resolved value as plain text.
+     */
+    @NotNull String resolve(@NotNull Player player, @NotNull String placeholder);
+}
@@ -0,0 +1,109 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link FrameSource} that stores each run of repeated frames only once, and the same instance for equal frames.
+ * <p>
+ * It is used by {@link FrameSource#of(List)} when the list has repeated consecutive frames.
+ * It is equal to the other run-length and {@link ListFrameSource list} sources with the same frames.
+ *
+ * @since 1.2.0
+ */
+public class RunLengthFrameSource extends StoredFrameSource {
+    private final String[] runFrames;
+    private final int[] runStarts;
+    private final int size;
+    private final int hash;
+
+    /**
+     * @param frames The frames.
+     */
+    public RunLengthFrameSource(@NotNull List<String> frames) {
+        Map<String, String> interned = new HashMap<>();
+        List<String> runFrames = new ArrayList<>();
+        List<Integer> runStarts = new ArrayList<>();
+
+        String last = null;
+        for (int i = 0; i < frames.size(); i++) {
+            String frame = frames.get(i);
+            if (i > 0 && frame.equals(last)) continue;
+            last = interned.computeIfAbsent(frame, key -> key);
+            runFrames.add(last);
+            runStarts.add(i);
+        }
+
+        this.runFrames = runFrames.toArray(new String[0]);
+        this.runStarts = runStarts.stream().mapToInt(Integer::intValue).toArray();
+        this.size = frames.size();
+        this.hash = frames.hashCode();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull String getFrame(int index) {
+        return runFrames[runOf(index)];
+    }
+
+    @Override
+    public @NotNull List<FrameRun> getRuns() {
+        List<FrameRun> runs = new ArrayList<>(runFrames.length);
+        for (int i = 0; i < runFrames.length; i++) {
+            int end = i + 1 < runStarts.length ? runStarts[i + 1] : size;
+            runs.add(new FrameRun(runFrames[i], runStarts[i], end - runStarts[i]));
+        }
+        return runs;
+    }
+
+    @Override
+    public @NotNull Iterator<FrameRun> runIterator() {
+        return getRuns().iterator();
+    }
+
+    /**
+     * Gets the run a frame belongs to.
+     * @param index The frame index.
+     * @return The run index.
+     * @throws IndexOutOfBoundsException If the index is not between 0 and {@link #size()}.
+     */
+    public int runOf(int index) {
+        Objects.checkIndex(index, size);
+        int run = Arrays.binarySearch(runStarts, index);
+        return run >= 0 ? run : -run - 2;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof RunLengthFrameSource) {
+            var that = (RunLengthFrameSource) obj;
+            return this.size == that.size &&
+                    Arrays.equals(this.runFrames, that.runFrames) &&
+                    Arrays.equals(this.runStarts, that.runStarts);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "RunLengthFrameSource[" +
+                "size=" + size + ", " +
+                "runs=" + getRuns() + ']';
+    }
+}
@@ -0,0 +1,27 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+/**
+ * A {@link FrameSource} that stores its frames. The stored sources are equal if they have the same frames,
+ * whatever the way they store them, so two animations with the same frames are equal.
+ */
+abstract class StoredFrameSource implements FrameSource {
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (!(obj instanceof StoredFrameSource)) return false;
+        var that = (StoredFrameSource) obj;
+        return this.size() == that.size() &&
+                this.hashCode() == that.hashCode() &&
+                this.asList().equals(that.asList());
+    }
+
+    /**
+     * Gets the hash of the frames, the same as the hash of a list with the frames.
+     * @return The hash.
+     */
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+}
@@ -0,0 +1,72 @@
+package es.hyrex.hyrexanimations.api.cluster;
+
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import es.hyrex.hyrexanimations.api.exception.AnimationNotFoundException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shows animations to all the players of a network at the same time.
+ * <p>
+ * Instead of showing the animation to each player from a hub server, a single {@link AnimationSyncMessage} is sent to each server,
+ * and each server shows the animation to its own players starting at the same time. The server clocks must be synchronized (for example with NTP).
+ * If a message arrives late, the server starts the animation at the frame it should be showing.
+ * <br>
+ * The animation must be registered with the same name in all the servers.
+ *
+ * @since 1.2.0
+ */
+public interface AnimationCluster {
+
+    /**
+     * Sets the transport used to send and receive the messages, and starts listening to it.
+     *
+     * @param transport The transport, or null to leave the cluster.
+     */
+    void setTransport(@Nullable ClusterTransport transport);
+
+    /**
+     * Gets the transport used to send and receive the messages.
+     *
+     * @return The transport, or null if the server is not in a cluster.
+     */
+    @Nullable ClusterTransport getTransport();
+
+    /**
+     * Shows a registered animation to all the players of the network at a given time.
+     *
+     * @param animationName The animation name.
+     * @param displayType   The display type.
+     * @param startTime     When the animation starts, in milliseconds since the epoch.
+     * @throws AnimationNotFoundException If the animation was not found in this server.
+     * @throws IllegalStateException      If the server is not in a cluster.
+     */
+    void broadcast(@NotNull String animationName, @NotNull DisplayType displayType, long startTime) throws AnimationNotFoundException;
+
+    /**
+     * Shows a registered animation to all the players of the network, starting after the {@link #getStartDelay() start delay}
+     * so the message has time to arrive to all the servers.
+     *
+     * @param animationName The animation name.
+     * @param displayType   The display type.
+     * @throws AnimationNotFoundException If the animation was not found in this server.
+     * @throws IllegalStateException      If the server is not in a cluster.
+     */
+    default void broadcast(@NotNull String animationName, @NotNull DisplayType displayType) throws AnimationNotFoundException {
+        broadcast(animationName, displayType, System.currentTimeMillis() + getStartDelay());
+    }
+
+    /**
+     * Sets the time between a broadcast and the start of the animation.
+     *
+     * @param millis The start delay in milliseconds. (Default: 250)
+     */
+    void setStartDelay(long millis);
+
+    /**
+     * Gets the time between a broadcast and the start of the animation.
+     *
+     * @return The start delay in milliseconds.
+     */
+    long getStartDelay();
+}
@@ -0,0 +1,125 @@
+package es.hyrex.hyrexanimations.api.cluster;
+
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * The message sent to all the servers to show a registered animation at the same time.
+ *
+ * @since 1.2.0
+ */
+public class AnimationSyncMessage {
+    private static final byte VERSION = 1;
+
+    private final @NotNull String animationName;
+    private final @NotNull DisplayType displayType;
+    private final long startTime;
+
+    /**
+     * @param animationName The animation name.
+     * @param displayType   The display type.
+     * @param startTime     When the animation starts, in milliseconds since the epoch.
+     */
+    public AnimationSyncMessage(@NotNull String animationName, @NotNull DisplayType displayType, long startTime) {
+        this.animationName = animationName;
+        this.displayType = displayType;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Reads a message.
+     *
+     * @param bytes The message bytes.
+     * @return The message.
+     * @throws IllegalArgumentException If the bytes are not a valid message.
+     */
+    public static @NotNull AnimationSyncMessage decode(@NotNull byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("The animation sync message version " + version + " is not supported.");
+            }
+            String animationName = in.readUTF();
+            int displayType = in.readUnsignedByte();
+            if (displayType >= DisplayType.values().length) {
+                throw new IllegalArgumentException("Unknown display type: " + displayType);
+            }
+            return new AnimationSyncMessage(animationName, DisplayType.values()[displayType], in.readLong());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The bytes are not a valid animation sync message.", e);
+        }
+    }
+
+    /**
+     * Writes the message.
+     *
+     * @return The message bytes.
+     */
+    public @NotNull byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + animationName.length());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(animationName);
+            out.writeByte(displayType.ordinal());
+            out.writeLong(startTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Gets the animation name.
+     * @return The animation name.
+     */
+    public @NotNull String getAnimationName() {
+        return animationName;
+    }
+
+    /**
+     * Gets the display type.
+     * @return The display type.
+     */
+    public @NotNull DisplayType getDisplayType() {
+        return displayType;
+    }
+
+    /**
+     * Gets when the animation starts.
+     * @return The start time in milliseconds since the epoch.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (AnimationSyncMessage) obj;
+        return Objects.equals(this.animationName, that.animationName) &&
+                Objects.equals(this.displayType, that.displayType) &&
+                this.startTime == that.startTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(animationName, displayType, startTime);
+    }
+
+    @Override
+    public String toString() {
+        return "AnimationSyncMessage[" +
+                "animationName=" + animationName + ", " +
+                "displayType=" + displayType + ", " +
+                "startTime=" + startTime + ']';
+    }
+}
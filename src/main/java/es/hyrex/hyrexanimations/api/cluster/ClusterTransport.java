@@ -0,0 +1,38 @@
+package es.hyrex.hyrexanimations.api.cluster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Sends the messages of an {@link AnimationCluster} to all the servers of the network.
+ * <p>
+ * Implement it with the messaging system of your network (plugin messages, Redis, a message broker...).
+ * The messages are small byte arrays and must be delivered to every server, including the one that sent them.
+ *
+ * @since 1.2.0
+ */
+public interface ClusterTransport {
+
+    /**
+     * Sends a message to all the servers.
+     *
+     * @param message The message.
+     */
+    void send(@NotNull byte[] message);
+
+    /**
+     * Registers a receiver that is called with each message received from any server.
+     * It can be called from any thread.
+     *
+     * @param receiver The receiver.
+     */
+    void subscribe(@NotNull Consumer<byte[]> receiver);
+
+    /**
+     * Unregisters a receiver.
+     *
+     * @param receiver The receiver.
+     */
+    void unsubscribe(@NotNull Consumer<byte[]> receiver);
+}
@@ -0,0 +1,35 @@
+package es.hyrex.hyrexanimations.api.cluster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ClusterTransport} that delivers the messages to the receivers of the same process, in the thread that sends them.
+ * <p>
+ * Useful for a single server or for tests, sharing the same instance between the clusters.
+ *
+ * @since 1.2.0
+ */
+public class LoopbackTransport implements ClusterTransport {
+    private final List<Consumer<byte[]>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(@NotNull byte[] message) {
+        for (Consumer<byte[]> receiver : receivers) {
+            receiver.accept(message.clone());
+        }
+    }
+
+    @Override
+    public void subscribe(@NotNull Consumer<byte[]> receiver) {
+        receivers.add(receiver);
+    }
+
+    @Override
+    public void unsubscribe(@NotNull Consumer<byte[]> receiver) {
+        receivers.remove(receiver);
+    }
+}
@@ -0,0 +1,125 @@
+package es.hyrex.hyrexanimations.api.events;
+
+import es.hyrex.hyrexanimations.api.playback.ShowRequest;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Called once when many animations start at the same time with {@link es.hyrex.hyrexanimations.api.HyrexAnimationsAPI#showAll(Collection)}.
+ * <p>
+ * The {@link AnimationStartEvent} is not called for these animations. You can cancel the event to prevent all the animations from starting,
+ * or modify the players list of each request. A request without players will not be started.
+ * <br>
+ * The requests are kept in the order they were given, and a request given more than once has a players list for each time.
+ *
+ * @since 1.2.0
+ */
+public class AnimationBatchStartEvent extends Event implements Cancellable {
+
+    private static final HandlerList HANDLER_LIST = new HandlerList();
+    private boolean cancel = false;
+
+    private final List<ShowRequest> requests;
+    private final List<List<Player>> players;
+
+    private AnimationBatchStartEvent(List<ShowRequest> requests, List<? extends Collection<Player>> players, boolean copy) {
+        if (requests.size() != players.size()) {
+            throw new IllegalArgumentException(requests.size() + " requests were given with " + players.size() + " players collections.");
+        }
+        this.requests = List.copyOf(requests);
+        this.players = new ArrayList<>(players.size());
+        for (Collection<Player> requestPlayers : players) {
+            this.players.add(copy ? new ArrayList<>(requestPlayers) : new LazyCopyList<>(requestPlayers));
+        }
+    }
+
+    /**
+     * @param requests The requests that passed the condition.
+     * @param players  The players who passed the condition for each request, in the same order as the requests.
+     * @throws IllegalArgumentException If there are not as many players collections as requests.
+     */
+    public AnimationBatchStartEvent(List<ShowRequest> requests, List<? extends Collection<Player>> players) {
+        this(requests, players, true);
+    }
+
+    /**
+     * Creates the event without copying the players. The players of a request are copied only when a listener modifies its list.
+     * <p>
+     * <b>The collections must not be modified after the event is created</b>, the listeners that keep the lists would see the changes.
+     *
+     * @param requests The requests that passed the condition.
+     * @param players  The players who passed the condition for each request, in the same order as the requests.
+     * @return The event.
+     * @throws IllegalArgumentException If there are not as many players collections as requests.
+     */
+    public static AnimationBatchStartEvent withoutCopy(List<ShowRequest> requests, List<? extends Collection<Player>> players) {
+        return new AnimationBatchStartEvent(requests, players, false);
+    }
+
+    /**
+     * Gets the requests that passed the condition, in the order they were given.
+     *
+     * @return An unmodifiable list with the requests.
+     */
+    public @NotNull List<ShowRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets the players who will see the animation of a request.
+     *
+     * @param index The request index in {@link #getRequests()}.
+     * @return The players who will see the animation.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public @NotNull List<Player> getPlayers(int index) {
+        return players.get(index);
+    }
+
+    /**
+     * Gets the players who will see the animation of a request.
+     * <p>
+     * If the request was given more than once, the players of the first time are returned. Use {@link #getPlayers(int)} to get the others.
+     *
+     * @param request The request.
+     * @return The players who will see the animation, or an empty list if the request is not in this event.
+     */
+    public @NotNull List<Player> getPlayers(@NotNull ShowRequest request) {
+        int index = requests.indexOf(request);
+        return index == -1 ? new ArrayList<>() : players.get(index);
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLER_LIST;
+    }
+
+    /**
+     * Gets if any listener is registered for this event. If not, the plugin does not create nor call the event.
+     * @return True if there are listeners.
+     */
+    public static boolean hasListeners() {
+        return HANDLER_LIST.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancel;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancel = cancel;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLER_LIST;
+    }
+}
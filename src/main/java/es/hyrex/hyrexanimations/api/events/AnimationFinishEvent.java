@@ -11,6 +11,8 @@ import java.util.List;
 
 /**
  * Called when an animation finishes.
+ * <p>
+ * The event is not created when there are no listeners. (See {@link #hasListeners()})
  *
  * @since 1.1.0
  */
@@ -21,11 +23,37 @@ public class AnimationFinishEvent extends Event {
     private final String animationName;
     private final AnimationType type;
     private final List<Player> players;
+    private final Reason reason;
 
-    public AnimationFinishEvent(String animationName, AnimationType type, Collection<Player> players) {
+    private AnimationFinishEvent(String animationName, AnimationType type, Collection<Player> players, Reason reason, boolean copy) {
         this.animationName = animationName;
         this.type = type;
-        this.players = new ArrayList<>(players);
+        this.players = copy ? new ArrayList<>(players) : new LazyCopyList<>(players);
+        this.reason = reason;
+    }
+
+    public AnimationFinishEvent(String animationName, AnimationType type, Collection<Player> players, Reason reason) {
+        this(animationName, type, players, reason, true);
+    }
+
+    public AnimationFinishEvent(String animationName, AnimationType type, Collection<Player> players) {
+        this(animationName, type, players, Reason.COMPLETED);
+    }
+
+    /**
+     * Creates the event without copying the players. The players are copied only when a listener modifies the list.
+     * <p>
+     * <b>The collection must not be modified after the event is created</b>, the listeners that keep the list would see the changes.
+     *
+     * @param animationName The animation name.
+     * @param type          The animation type.
+     * @param players       The players who saw the animation.
+     * @param reason        Why the animation finished.
+     * @return The event.
+     * @since 1.2.0
+     */
+    public static AnimationFinishEvent withoutCopy(String animationName, AnimationType type, Collection<Player> players, Reason reason) {
+        return new AnimationFinishEvent(animationName, type, players, reason, false);
     }
 
     /**
@@ -54,12 +82,51 @@ public class AnimationFinishEvent extends Event {
         return players;
     }
 
+    /**
+     * Gets why the animation finished.
+     * @return The finish reason.
+     * @since 1.2.0
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
     public static HandlerList getHandlerList() {
         return HANDLER_LIST;
     }
 
+    /**
+     * Gets if any listener is registered for this event. If not, the plugin does not create nor call the event.
+     * @return True if there are listeners.
+     * @since 1.2.0
+     */
+    public static boolean hasListeners() {
+        return HANDLER_LIST.getRegisteredListeners().length > 0;
+    }
+
     @Override
     public HandlerList getHandlers() {
         return HANDLER_LIST;
     }
+
+
+    /**
+     * Represents why an animation finished.
+     *
+     * @since 1.2.0
+     */
+    public enum Reason {
+        /**
+         * The animation showed all its frames.
+         */
+        COMPLETED,
+        /**
+         * The animation was cancelled with {@link es.hyrex.hyrexanimations.api.playback.PlaybackHandle#cancel()}.
+         */
+        CANCELLED,
+        /**
+         * Other animations took the display slot of all the players. (See {@link es.hyrex.hyrexanimations.api.playback.SlotPolicy})
+         */
+        PREEMPTED
+    }
 }
@@ -0,0 +1,74 @@
+package es.hyrex.hyrexanimations.api.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Called when the registered animations change, after the new animations are available.
+ * <p>
+ * The animations that are being shown keep the version they started with until they finish.
+ * If you keep {@link es.hyrex.hyrexanimations.api.animation.AnimationRef animation references}, resolve again the changed ones.
+ *
+ * @since 1.2.0
+ */
+public class AnimationRegistryChangeEvent extends Event {
+
+    private static final HandlerList HANDLER_LIST = new HandlerList();
+
+    private final Set<String> added;
+    private final Set<String> removed;
+    private final Set<String> changed;
+
+    public AnimationRegistryChangeEvent(Set<String> added, Set<String> removed, Set<String> changed) {
+        this.added = Set.copyOf(added);
+        this.removed = Set.copyOf(removed);
+        this.changed = Set.copyOf(changed);
+    }
+
+    /**
+     * Gets the names of the animations that were registered.
+     *
+     * @return An unmodifiable set with the animations names.
+     */
+    public @NotNull Set<String> getAdded() {
+        return added;
+    }
+
+    /**
+     * Gets the names of the animations that were unregistered.
+     *
+     * @return An unmodifiable set with the animations names.
+     */
+    public @NotNull Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Gets the names of the animations that were replaced by a new version.
+     *
+     * @return An unmodifiable set with the animations names.
+     */
+    public @NotNull Set<String> getChanged() {
+        return changed;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLER_LIST;
+    }
+
+    /**
+     * Gets if any listener is registered for this event. If not, the plugin does not create nor call the event.
+     * @return True if there are listeners.
+     */
+    public static boolean hasListeners() {
+        return HANDLER_LIST.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLER_LIST;
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
  * Called when an animation starts.
  * <p>
  * You can cancel the event to prevent the animation from starting, or modify the players list.
+ * The event is not created when there are no listeners. (See {@link #hasListeners()})
  *
  * @since 1.1.0
  */
@@ -29,17 +30,37 @@ public class AnimationStartEvent extends Event implements Cancellable {
     private final List<Player> players;
     private final @Nullable Condition condition;
 
-    public AnimationStartEvent(String animationName, AnimationType type, Collection<Player> players, @Nullable Condition condition) {
+    private AnimationStartEvent(String animationName, AnimationType type, Collection<Player> players, @Nullable Condition condition, boolean copy) {
         this.animationName = animationName;
         this.type = type;
-        this.players = new ArrayList<>(players);
+        this.players = copy ? new ArrayList<>(players) : new LazyCopyList<>(players);
         this.condition = condition;
     }
 
+    public AnimationStartEvent(String animationName, AnimationType type, Collection<Player> players, @Nullable Condition condition) {
+        this(animationName, type, players, condition, true);
+    }
+
     public AnimationStartEvent(String animationName, AnimationType type, Collection<Player> players) {
         this(animationName, type, players, null);
     }
 
+    /**
+     * Creates the event without copying the players. The players are copied only when a listener modifies the list.
+     * <p>
+     * <b>The collection must not be modified after the event is created</b>, the listeners that keep the list would see the changes.
+     *
+     * @param animationName The animation name.
+     * @param type          The animation type.
+     * @param players       The players who will see the animation.
+     * @param condition     The condition or null if there is no condition.
+     * @return The event.
+     * @since 1.2.0
+     */
+    public static AnimationStartEvent withoutCopy(String animationName, AnimationType type, Collection<Player> players, @Nullable Condition condition) {
+        return new AnimationStartEvent(animationName, type, players, condition, false);
+    }
+
     /**
      * Gets the animation name.
      *
@@ -80,6 +101,15 @@ public class AnimationStartEvent extends Event implements Cancellable {
         return HANDLER_LIST;
     }
 
+    /**
+     * Gets if any listener is registered for this event. If not, the plugin does not create nor call the event.
+     * @return True if there are listeners.
+     * @since 1.2.0
+     */
+    public static boolean hasListeners() {
+        return HANDLER_LIST.getRegisteredListeners().length > 0;
+    }
+
     @Override
     public boolean isCancelled() {
         return cancel;
@@ -0,0 +1,70 @@
+package es.hyrex.hyrexanimations.api.events;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list that reads from a collection without copying it, and copies it the first time the list is modified.
+ * <p>
+ * If the collection can't be read by index, it is copied the first time it is read by index.
+ */
+class LazyCopyList<E> extends AbstractList<E> implements RandomAccess {
+    private final Collection<? extends E> source;
+    private List<E> copy;
+
+    LazyCopyList(Collection<? extends E> source) {
+        this.source = source;
+    }
+
+    @Override
+    public E get(int index) {
+        return readable().get(index);
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : source.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return writable().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        writable().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = writable().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        writable().clear();
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends E> readable() {
+        if (copy == null && source instanceof List && source instanceof RandomAccess) {
+            return (List<? extends E>) source;
+        }
+        return writable();
+    }
+
+    private List<E> writable() {
+        if (copy == null) {
+            copy = new ArrayList<>(source);
+        }
+        return copy;
+    }
+}
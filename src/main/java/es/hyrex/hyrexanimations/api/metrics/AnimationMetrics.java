@@ -0,0 +1,74 @@
+package es.hyrex.hyrexanimations.api.metrics;
+
+import es.hyrex.hyrexanimations.api.animation.AnimationType;
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Reports how much work the animations are doing, so you can find the animations that use the most tick time.
+ * <p>
+ * The counters are updated by the plugin with striped counters, so reading them is safe from any thread.
+ *
+ * @since 1.2.0
+ */
+public interface AnimationMetrics {
+
+    /**
+     * Gets the number of playbacks that are running for an animation type.
+     *
+     * @param type The animation type.
+     * @return The active playbacks count.
+     */
+    int getActivePlaybacks(@NotNull AnimationType type);
+
+    /**
+     * Gets the number of playbacks that are running for a display type.
+     *
+     * @param displayType The display type.
+     * @return The active playbacks count.
+     */
+    int getActivePlaybacks(@NotNull DisplayType displayType);
+
+    /**
+     * Gets the packets sent per second, averaged over the last second.
+     *
+     * @return The packets per second.
+     */
+    double getPacketsPerSecond();
+
+    /**
+     * Gets the packets skipped per second because the player was already seeing the same frame, averaged over the last second.
+     *
+     * @return The skipped packets per second.
+     */
+    double getSkippedPacketsPerSecond();
+
+    /**
+     * Gets the time spent resolving placeholders, one duration for each frame resolved for a player.
+     *
+     * @return The placeholder resolution times.
+     */
+    @NotNull LatencySnapshot getPlaceholderResolutionTime();
+
+    /**
+     * Gets the time spent preparing the frames of an animation, one duration for each frame.
+     *
+     * @param animationName The animation name.
+     * @return The frame preparation times, or {@link LatencySnapshot#EMPTY} if the animation was not shown.
+     */
+    @NotNull LatencySnapshot getFramePreparationTime(@NotNull String animationName);
+
+    /**
+     * Gets the names of the animations with frame preparation times.
+     *
+     * @return An unmodifiable set with the animations names.
+     */
+    @NotNull Set<String> getMeasuredAnimations();
+
+    /**
+     * Removes all the recorded times and counters, except the active playbacks.
+     */
+    void reset();
+}
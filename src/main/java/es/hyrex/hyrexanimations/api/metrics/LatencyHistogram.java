@@ -0,0 +1,69 @@
+package es.hyrex.hyrexanimations.api.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records durations in buckets whose upper bound is a power of two nanoseconds.
+ * <p>
+ * The counters are striped, so recording from many threads at the same time is cheap.
+ *
+ * @since 1.2.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * The buckets count. The last bucket holds all the durations of 2<sup>33</sup> nanoseconds or more. (About 8.6 seconds)
+     */
+    public static final int BUCKETS = 35;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[bucketOf(nanos)].increment();
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Gets a copy of the recorded durations.
+     * @return The snapshot.
+     */
+    public @NotNull LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new LatencySnapshot(counts, total.sum(), max.get());
+    }
+
+    /**
+     * Removes all the recorded durations.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        total.reset();
+        max.reset();
+    }
+
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+}
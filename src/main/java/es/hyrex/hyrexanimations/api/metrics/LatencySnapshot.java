@@ -0,0 +1,116 @@
+package es.hyrex.hyrexanimations.api.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents the durations recorded by a {@link LatencyHistogram} at some moment.
+ *
+ * @since 1.2.0
+ */
+public class LatencySnapshot {
+
+    /**
+     * A snapshot without durations.
+     */
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(new long[LatencyHistogram.BUCKETS], 0, 0);
+
+    private final long[] bucketCounts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * @param bucketCounts The durations count of each bucket. The bucket {@code i} holds the durations shorter than 2<sup>i</sup> nanoseconds.
+     * @param totalNanos   The sum of all the durations in nanoseconds.
+     * @param maxNanos     The longest duration in nanoseconds.
+     */
+    public LatencySnapshot(long[] bucketCounts, long totalNanos, long maxNanos) {
+        this.bucketCounts = bucketCounts.clone();
+        this.count = Arrays.stream(bucketCounts).sum();
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the durations count.
+     * @return The durations count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of all the durations.
+     * @return The total in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the longest duration.
+     * @return The longest duration in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the average duration.
+     * @return The average in nanoseconds, or 0 if there are no durations.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Gets an upper bound of a percentile, with the precision of the buckets.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The percentile in nanoseconds, or 0 if there are no durations.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(count * Math.max(0, Math.min(100, percentile)) / 100);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(maxNanos, i == bucketCounts.length - 1 ? maxNanos : (1L << i) - 1);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the durations count of each bucket.
+     * @return A copy of the bucket counts. The bucket {@code i} holds the durations shorter than 2<sup>i</sup> nanoseconds.
+     */
+    public long[] getBucketCounts() {
+        return bucketCounts.clone();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (LatencySnapshot) obj;
+        return Arrays.equals(this.bucketCounts, that.bucketCounts) &&
+                this.totalNanos == that.totalNanos &&
+                this.maxNanos == that.maxNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(bucketCounts), totalNanos, maxNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot[" +
+                "count=" + count + ", " +
+                "meanNanos=" + getMeanNanos() + ", " +
+                "p99Nanos=" + getPercentileNanos(99) + ", " +
+                "maxNanos=" + maxNanos + ']';
+    }
+}
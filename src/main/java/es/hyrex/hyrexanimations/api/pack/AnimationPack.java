@@ -0,0 +1,362 @@
+package es.hyrex.hyrexanimations.api.pack;
+
+import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.AnimationCommand;
+import es.hyrex.hyrexanimations.api.animation.AnimationSound;
+import es.hyrex.hyrexanimations.api.animation.AnimationType;
+import es.hyrex.hyrexanimations.api.animation.FrameRun;
+import es.hyrex.hyrexanimations.api.animation.FrameSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An animation pack file written with {@link AnimationPackWriter}, mapped in memory.
+ * <p>
+ * Opening a pack only reads the positions of its strings and animations. The frames are read from the file
+ * when they are shown, so the animations of a pack use almost no heap.
+ *
+ * @since 1.2.0
+ */
+public class AnimationPack {
+    static final int MAGIC = 0x48584150;
+    static final short VERSION = 1;
+    static final int FLAG_MINI_MESSAGE = 1;
+    static final int FLAG_PLACEHOLDER_API = 1 << 1;
+
+    private final @NotNull Path path;
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final String[] strings;
+    private final Map<String, Integer> animationOffsets;
+    private final Map<String, Animation> animations = new HashMap<>();
+
+    private AnimationPack(@NotNull Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+
+        try {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("The file \"" + path + "\" is not an animation pack.");
+            }
+            if (buffer.getShort(4) != VERSION) {
+                throw new IOException("The animation pack \"" + path + "\" version " + buffer.getShort(4) + " is not supported.");
+            }
+
+            int offset = 6;
+            stringOffsets = new int[readCount(offset, 4)];
+            strings = new String[stringOffsets.length];
+            offset += 4;
+            for (int i = 0; i < stringOffsets.length; i++) {
+                stringOffsets[i] = offset;
+                offset += 4 + readCount(offset, 1);
+            }
+
+            int animationCount = readCount(offset, 22);
+            offset += 4;
+            animationOffsets = new LinkedHashMap<>();
+            for (int i = 0; i < animationCount; i++) {
+                animationOffsets.put(string(checkString(buffer.getInt(offset))), offset);
+                offset = checkAnimation(offset);
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("The animation pack \"" + path + "\" is corrupted.", e);
+        }
+    }
+
+    /**
+     * Opens an animation pack file.
+     * <p>
+     * The whole file is checked when it is opened, so a corrupted pack fails here and not while its animations are shown.
+     *
+     * @param path The file path.
+     * @return The animation pack.
+     * @throws IOException If the file could not be read or is not a valid animation pack.
+     */
+    public static @NotNull AnimationPack open(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new AnimationPack(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Gets the file path.
+     * @return The file path.
+     */
+    public @NotNull Path getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the names of the animations in the pack.
+     * @return An unmodifiable set with the animations names, in the order they were written.
+     */
+    public @NotNull Set<String> getAnimationNames() {
+        return Collections.unmodifiableSet(animationOffsets.keySet());
+    }
+
+    /**
+     * Gets an animation of the pack. Its frames are read from the file when they are needed.
+     *
+     * @param name The animation name.
+     * @return The animation or null if the pack does not have it.
+     */
+    public synchronized @Nullable Animation getAnimation(@NotNull String name) {
+        Integer offset = animationOffsets.get(name);
+        if (offset == null) return null;
+        return animations.computeIfAbsent(name, key -> readAnimation(offset));
+    }
+
+    /**
+     * Gets the type of an animation of the pack.
+     *
+     * @param name The animation name.
+     * @return The animation type or null if the pack does not have it.
+     */
+    public @Nullable AnimationType getType(@NotNull String name) {
+        Integer offset = animationOffsets.get(name);
+        return offset == null ? null : AnimationType.values()[buffer.get(offset + 4)];
+    }
+
+    private Animation readAnimation(int offset) {
+        String name = string(buffer.getInt(offset));
+        double framesPerSecond = buffer.getDouble(offset + 5);
+        int flags = buffer.get(offset + 13);
+        int frameCount = buffer.getInt(offset + 14);
+        int runCount = buffer.getInt(offset + 18);
+        int runsOffset = offset + 22;
+        offset = runsOffset + runCount * 8;
+
+        Map<Integer, List<AnimationSound>> sounds = new HashMap<>();
+        int soundFrames = buffer.getInt(offset);
+        offset += 4;
+        for (int i = 0; i < soundFrames; i++) {
+            int frame = buffer.getInt(offset);
+            int count = buffer.getInt(offset + 4);
+            offset += 8;
+            List<AnimationSound> frameSounds = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                frameSounds.add(new AnimationSound(
+                        string(buffer.getInt(offset)),
+                        string(buffer.getInt(offset + 4)),
+                        string(buffer.getInt(offset + 8)),
+                        buffer.getFloat(offset + 12)
+                ));
+                offset += 16;
+            }
+            sounds.put(frame, List.copyOf(frameSounds));
+        }
+
+        Map<Integer, List<AnimationCommand>> commands = new HashMap<>();
+        int commandFrames = buffer.getInt(offset);
+        offset += 4;
+        for (int i = 0; i < commandFrames; i++) {
+            int frame = buffer.getInt(offset);
+            int count = buffer.getInt(offset + 4);
+            offset += 8;
+            List<AnimationCommand> frameCommands = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                frameCommands.add(new AnimationCommand(AnimationCommand.Type.values()[buffer.get(offset)], string(buffer.getInt(offset + 1))));
+                offset += 5;
+            }
+            commands.put(frame, List.copyOf(frameCommands));
+        }
+
+        return new Animation(
+                name,
+                new PackFrameSource(runsOffset, runCount, frameCount),
+                framesPerSecond,
+                (flags & FLAG_MINI_MESSAGE) != 0,
+                (flags & FLAG_PLACEHOLDER_API) != 0,
+                Map.copyOf(sounds),
+                Map.copyOf(commands)
+        );
+    }
+
+    /**
+     * Checks an animation and gets the offset of the next one.
+     */
+    private int checkAnimation(int offset) throws IOException {
+        checkOrdinal(buffer.get(offset + 4), AnimationType.values().length);
+        if (!(buffer.getDouble(offset + 5) > 0)) throw corrupted();
+        int frameCount = buffer.getInt(offset + 14);
+        int runCount = readCount(offset + 18, 8);
+        if (frameCount < 0 || (frameCount == 0) != (runCount == 0)) throw corrupted();
+
+        offset += 22;
+        int previousStart = -1;
+        for (int i = 0; i < runCount; i++) {
+            checkString(buffer.getInt(offset));
+            int start = buffer.getInt(offset + 4);
+            // The runs are searched by their start, so they must start at 0 and be sorted.
+            if ((i == 0 ? start != 0 : start <= previousStart) || start >= frameCount) throw corrupted();
+            previousStart = start;
+            offset += 8;
+        }
+
+        int soundFrames = readCount(offset, 8);
+        offset += 4;
+        for (int i = 0; i < soundFrames; i++) {
+            int count = readCount(offset + 4, 16);
+            offset += 8;
+            for (int j = 0; j < count; j++) {
+                checkString(buffer.getInt(offset));
+                checkString(buffer.getInt(offset + 4));
+                checkString(buffer.getInt(offset + 8));
+                offset += 16;
+            }
+        }
+
+        int commandFrames = readCount(offset, 8);
+        offset += 4;
+        for (int i = 0; i < commandFrames; i++) {
+            int count = readCount(offset + 4, 5);
+            offset += 8;
+            for (int j = 0; j < count; j++) {
+                checkOrdinal(buffer.get(offset), AnimationCommand.Type.values().length);
+                checkString(buffer.getInt(offset + 1));
+                offset += 5;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Reads a count and checks that the entries that follow it, of at least the given size each, fit in the file.
+     */
+    private int readCount(int offset, int entrySize) throws IOException {
+        int count = buffer.getInt(offset);
+        if (count < 0 || (long) count * entrySize > (long) buffer.limit() - offset - 4) throw corrupted();
+        return count;
+    }
+
+    private int checkString(int index) throws IOException {
+        if (index < 0 || index >= stringOffsets.length) throw corrupted();
+        return index;
+    }
+
+    private void checkOrdinal(int ordinal, int length) throws IOException {
+        if (ordinal < 0 || ordinal >= length) throw corrupted();
+    }
+
+    private IOException corrupted() {
+        return new IOException("The animation pack \"" + path + "\" is corrupted.");
+    }
+
+    private String string(int index) {
+        String string = strings[index];
+        if (string == null) {
+            int offset = stringOffsets[index];
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            // A duplicate is used because reading relative to the position is not thread safe.
+            buffer.duplicate().position(offset + 4).get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = string;
+        }
+        return string;
+    }
+
+    @Override
+    public String toString() {
+        return "AnimationPack[" +
+                "path=" + path + ", " +
+                "animations=" + animationOffsets.keySet() + ']';
+    }
+
+    /**
+     * The frames of an animation of the pack, read from the runs table of the file.
+     */
+    private class PackFrameSource implements FrameSource {
+        private final int runsOffset;
+        private final int runCount;
+        private final int size;
+
+        private PackFrameSource(int runsOffset, int runCount, int size) {
+            this.runsOffset = runsOffset;
+            this.runCount = runCount;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public @NotNull String getFrame(int index) {
+            Objects.checkIndex(index, size);
+            int low = 0;
+            int high = runCount - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (runStart(middle) <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return string(buffer.getInt(runsOffset + low * 8));
+        }
+
+        @Override
+        public @NotNull List<FrameRun> getRuns() {
+            List<FrameRun> runs = new ArrayList<>(runCount);
+            for (int i = 0; i < runCount; i++) {
+                runs.add(run(i));
+            }
+            return runs;
+        }
+
+        @Override
+        public @NotNull Iterator<FrameRun> runIterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < runCount;
+                }
+
+                @Override
+                public FrameRun next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return run(next++);
+                }
+            };
+        }
+
+        private FrameRun run(int run) {
+            int end = run + 1 < runCount ? runStart(run + 1) : size;
+            return new FrameRun(string(buffer.getInt(runsOffset + run * 8)), runStart(run), end - runStart(run));
+        }
+
+        private int runStart(int run) {
+            return buffer.getInt(runsOffset + run * 8 + 4);
+        }
+
+        @Override
+        public String toString() {
+            return "PackFrameSource[" +
+                    "size=" + size + ", " +
+                    "runs=" + runCount + ']';
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package es.hyrex.hyrexanimations.api.pack;
+
+import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.AnimationCommand;
+import es.hyrex.hyrexanimations.api.animation.AnimationSound;
+import es.hyrex.hyrexanimations.api.animation.AnimationType;
+import es.hyrex.hyrexanimations.api.animation.FrameRun;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes animations to an animation pack file, that can be loaded fast with {@link AnimationPack#open(Path)}.
+ * <p>
+ * Each distinct string (frames, sounds and commands) is stored only once, and the repeated consecutive frames are stored as runs.
+ * <pre>{@code
+ * AnimationPackWriter writer = new AnimationPackWriter();
+ * writer.add(animation, AnimationType.PLAIN_TEXT);
+ * writer.write(Path.of("plugins/HyrexAnimations/animations.hxpack"));
+ * }
+ * </pre>
+ *
+ * @since 1.2.0
+ */
+public class AnimationPackWriter {
+    private final Map<String, Entry> animations = new LinkedHashMap<>();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Adds an animation to the pack. If the pack already has an animation with the same name, it is replaced.
+     *
+     * @param animation The animation.
+     * @param type      The animation type.
+     * @return This writer.
+     */
+    public @NotNull AnimationPackWriter add(@NotNull Animation animation, @NotNull AnimationType type) {
+        animations.put(animation.getName(), new Entry(animation, type));
+        return this;
+    }
+
+    /**
+     * Writes the pack to a file, replacing it if it exists.
+     * <p>
+     * The pack is written to a temporary file in the same directory that is then moved over the file, so the file is never
+     * left half written. On Linux and macOS, a pack that is already {@link AnimationPack#open(Path) open} keeps reading the old file.
+     * <br>
+     * <b>On Windows, a file that is open as a pack can't be replaced</b> until the pack is garbage collected, because its memory
+     * mapping can't be released. Write the pack to another path and open that one instead.
+     *
+     * @param path The file path.
+     * @throws IOException If the file could not be written.
+     * @throws AccessDeniedException If the file could not be replaced, for example because it is open as a pack on Windows.
+     */
+    public void write(@NotNull Path path) throws IOException {
+        strings.clear();
+        stringIndexes.clear();
+        for (Entry entry : animations.values()) {
+            collectStrings(entry.animation);
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            writeTo(temporary);
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AccessDeniedException e) {
+                AccessDeniedException exception = new AccessDeniedException(path.toString(), null,
+                        "The animation pack could not be replaced. If it is open, write the pack to another path.");
+                exception.initCause(e);
+                throw exception;
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void writeTo(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(AnimationPack.MAGIC);
+            out.writeShort(AnimationPack.VERSION);
+
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(animations.size());
+            for (Entry entry : animations.values()) {
+                writeAnimation(out, entry.animation, entry.type);
+            }
+        }
+    }
+
+    private void writeAnimation(DataOutputStream out, Animation animation, AnimationType type) throws IOException {
+        out.writeInt(indexOf(animation.getName()));
+        out.writeByte(type.ordinal());
+        out.writeDouble(animation.getFramesPerSecond());
+        out.writeByte((animation.getUseMiniMessage() ? AnimationPack.FLAG_MINI_MESSAGE : 0)
+                | (animation.getUsePlaceholderAPI() ? AnimationPack.FLAG_PLACEHOLDER_API : 0));
+
+        List<FrameRun> runs = animation.getFrameRuns();
+        out.writeInt(animation.getFrameSource().size());
+        out.writeInt(runs.size());
+        for (FrameRun run : runs) {
+            out.writeInt(indexOf(run.getFrame()));
+            out.writeInt(run.getStart());
+        }
+
+        out.writeInt(animation.getSounds().size());
+        for (Map.Entry<Integer, List<AnimationSound>> sounds : animation.getSounds().entrySet()) {
+            out.writeInt(sounds.getKey());
+            out.writeInt(sounds.getValue().size());
+            for (AnimationSound sound : sounds.getValue()) {
+                out.writeInt(indexOf(sound.getNamespace()));
+                out.writeInt(indexOf(sound.getValue()));
+                out.writeInt(indexOf(sound.getSource()));
+                out.writeFloat(sound.getPitch());
+            }
+        }
+
+        out.writeInt(animation.getCommands().size());
+        for (Map.Entry<Integer, List<AnimationCommand>> commands : animation.getCommands().entrySet()) {
+            out.writeInt(commands.getKey());
+            out.writeInt(commands.getValue().size());
+            for (AnimationCommand command : commands.getValue()) {
+                out.writeByte(command.getType().ordinal());
+                out.writeInt(indexOf(command.getCommand()));
+            }
+        }
+    }
+
+    private void collectStrings(Animation animation) {
+        indexOf(animation.getName());
+        for (FrameRun run : animation.getFrameRuns()) {
+            indexOf(run.getFrame());
+        }
+        for (List<AnimationSound> sounds : animation.getSounds().values()) {
+            for (AnimationSound sound : sounds) {
+                indexOf(sound.getNamespace());
+                indexOf(sound.getValue());
+                indexOf(sound.getSource());
+            }
+        }
+        for (List<AnimationCommand> commands : animation.getCommands().values()) {
+            for (AnimationCommand command : commands) {
+                indexOf(command.getCommand());
+            }
+        }
+    }
+
+    private int indexOf(String string) {
+        return stringIndexes.computeIfAbsent(string, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    private static class Entry {
+        private final Animation animation;
+        private final AnimationType type;
+
+        private Entry(Animation animation, AnimationType type) {
+            this.animation = animation;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+import es.hyrex.hyrexanimations.api.animation.Condition;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A set of players that is kept up to date, to show many animations to the same players without selecting them each time.
+ * <p>
+ * The players are added and removed when they join, quit or change world, and the permission conditions are tested at that moment.
+ * The server does not tell when the permissions of a player change, so <b>call {@link #refresh(Player)} after changing them</b>,
+ * for example after setting a permission attachment or when your permissions plugin updates a player.
+ * The {@link Condition.Type#EXPRESSION expressions} can change at any moment, so they are tested each time an animation is shown,
+ * only for the players that passed the other conditions.
+ * <br>
+ * Get it with {@link es.hyrex.hyrexanimations.api.HyrexAnimationsAPI#createAudience(World, Condition)}, and close it when you don't need it anymore.
+ * To show an animation to it, use the methods that take an audience or a {@link ShowRequest#ShowRequest(es.hyrex.hyrexanimations.api.animation.Animation, Audience, es.hyrex.hyrexanimations.api.animation.DisplayType) request to the audience}.
+ *
+ * @since 1.2.0
+ */
+public interface Audience {
+
+    /**
+     * Gets the world the players must be in.
+     *
+     * @return The world, or null if the players can be in any world.
+     */
+    @Nullable World getWorld();
+
+    /**
+     * Gets the condition the players must pass.
+     *
+     * @return The condition, or null if there is no condition.
+     */
+    @Nullable Condition getCondition();
+
+    /**
+     * Gets the players of the audience. The expressions of the condition are not tested.
+     *
+     * @return An unmodifiable view of the players, that changes when the audience is updated.
+     */
+    @NotNull Collection<Player> getPlayers();
+
+    /**
+     * Tests the condition again for a player, for example when the player permissions changed.
+     *
+     * @param player The player.
+     */
+    void refresh(@NotNull Player player);
+
+    /**
+     * Stops keeping the audience up to date and removes all its players.
+     */
+    void close();
+
+    /**
+     * Gets if the audience was closed.
+     *
+     * @return True if the audience was closed.
+     */
+    boolean isClosed();
+}
@@ -0,0 +1,88 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers the last payload sent to each player on a {@link DisplayType}, to skip the packets that would not change what the player sees.
+ * <p>
+ * A payload equal to the last one is skipped only while the client is still showing the last one. The payloads are compared with
+ * {@link String#equals(Object)}, the same payload instance is usually sent to many players so keeping it does not copy it.
+ * <br>
+ * <b>This class is not thread safe, use it from the thread that sends the packets.</b>
+ *
+ * @since 1.2.0
+ */
+public class FrameDeltaFilter {
+    private final @NotNull DisplayType displayType;
+    private final Map<UUID, Sent> sent = new HashMap<>();
+
+    /**
+     * @param displayType The display type.
+     */
+    public FrameDeltaFilter(@NotNull DisplayType displayType) {
+        this.displayType = displayType;
+    }
+
+    /**
+     * Gets the display type.
+     * @return The display type.
+     */
+    public @NotNull DisplayType getDisplayType() {
+        return displayType;
+    }
+
+    /**
+     * Checks if a payload must be sent to a player, and remembers it if so.
+     *
+     * @param player       The player unique id.
+     * @param payload      The payload.
+     * @param tick         The current tick.
+     * @param visibleTicks How many ticks the client shows the payload after receiving it. For titles it is the fade in plus stay time,
+     *                     and for the action bar it is {@link DisplayType#getRefreshTicks()}.
+     * @return True if the payload must be sent, false if the player is already seeing it.
+     */
+    public boolean shouldSend(@NotNull UUID player, @NotNull String payload, long tick, long visibleTicks) {
+        Sent last = sent.get(player);
+        if (last != null && tick < last.visibleUntil && last.payload.equals(payload)) return false;
+
+        if (last == null) {
+            sent.put(player, new Sent(payload, tick + visibleTicks));
+        } else {
+            last.payload = payload;
+            last.visibleUntil = tick + visibleTicks;
+        }
+        return true;
+    }
+
+    /**
+     * Forgets the last payload sent to a player, so the next one is always sent. Call it when the player quits
+     * or something else is shown on the display type.
+     *
+     * @param player The player unique id.
+     */
+    public void forget(@NotNull UUID player) {
+        sent.remove(player);
+    }
+
+    /**
+     * Forgets the last payload sent to all the players.
+     */
+    public void clear() {
+        sent.clear();
+    }
+
+    private static final class Sent {
+        private @NotNull String payload;
+        private long visibleUntil;
+
+        private Sent(@NotNull String payload, long visibleUntil) {
+            this.payload = payload;
+            this.visibleUntil = visibleUntil;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Represents an animation that is being shown, and lets you control it.
+ * <p>
+ * Once the playback is finished or cancelled, the methods that control it do nothing.
+ *
+ * @since 1.2.0
+ */
+public interface PlaybackHandle {
+
+    /**
+     * Gets the animation that is being shown.
+     *
+     * @return The animation.
+     */
+    @NotNull Animation getAnimation();
+
+    /**
+     * Gets the display type.
+     *
+     * @return The display type.
+     */
+    @NotNull DisplayType getDisplayType();
+
+    /**
+     * Gets the priority used to give the display slot of the players.
+     *
+     * @return The priority.
+     */
+    int getPriority();
+
+    /**
+     * Gets the players who are seeing the animation.
+     * <p>
+     * <i>(If any player disconnected, or other animation took the display slot of a player, will not appear in this list)</i>
+     *
+     * @return An unmodifiable list with the players.
+     */
+    @NotNull Collection<Player> getPlayers();
+
+    /**
+     * Gets the playback state.
+     *
+     * @return The playback state.
+     */
+    @NotNull State getState();
+
+    /**
+     * Gets the index of the frame that is being shown.
+     *
+     * @return The current frame index.
+     */
+    int getCurrentFrame();
+
+    /**
+     * Stops the animation. The frames, sounds and commands left will not be shown, and the
+     * {@link es.hyrex.hyrexanimations.api.events.AnimationFinishEvent} will be called with the
+     * {@link es.hyrex.hyrexanimations.api.events.AnimationFinishEvent.Reason#CANCELLED} reason.
+     *
+     * @return True if the playback was running or paused.
+     */
+    boolean cancel();
+
+    /**
+     * Pauses the animation in the current frame.
+     */
+    void pause();
+
+    /**
+     * Resumes the animation if it was paused.
+     */
+    void resume();
+
+    /**
+     * Jumps to a frame. The sounds and commands of the skipped frames will not be played.
+     *
+     * @param frame The frame index.
+     * @throws IndexOutOfBoundsException If the frame index is not in the animation.
+     */
+    void seek(int frame);
+
+    /**
+     * Gets if the playback is finished or cancelled.
+     *
+     * @return True if the playback is finished or cancelled.
+     */
+    default boolean isDone() {
+        return getState() == State.FINISHED || getState() == State.CANCELLED;
+    }
+
+
+    /**
+     * Represents a playback state.
+     *
+     * @since 1.2.0
+     */
+    enum State {
+        /**
+         * The animation is being shown.
+         */
+        RUNNING,
+        /**
+         * The animation is paused.
+         */
+        PAUSED,
+        /**
+         * The animation showed all its frames.
+         */
+        FINISHED,
+        /**
+         * The animation was cancelled.
+         */
+        CANCELLED
+    }
+}
@@ -0,0 +1,377 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+import es.hyrex.hyrexanimations.api.HyrexAnimationsAPI;
+import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.AnimationRef;
+import es.hyrex.hyrexanimations.api.animation.Condition;
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Represents an animation to show to some players, used to start many animations at once with {@link HyrexAnimationsAPI#showAll(Collection)}.
+ * <p>
+ * To show it to an {@link Audience}, create it with the audience. (Example: {@code new ShowRequest(animation, audience, displayType)})
+ * <br>
+ * Requests are compared by identity, the players collection can change and comparing the animations would read all their frames.
+ *
+ * @since 1.2.0
+ */
+public class ShowRequest {
+    private final @NotNull String animationName;
+    private final @Nullable Animation animation;
+    private final @Nullable AnimationRef animationRef;
+    private final @NotNull Collection<Player> players;
+    private final @NotNull DisplayType displayType;
+    private final @Nullable Condition condition;
+    private final @Nullable Audience audience;
+    private final int priority;
+    private final @NotNull SlotPolicy slotPolicy;
+    private final @Nullable Location soundOrigin;
+    private final boolean threadSafePlaceholders;
+
+    private ShowRequest(
+            @NotNull String animationName,
+            @Nullable Animation animation,
+            @Nullable AnimationRef animationRef,
+            @NotNull Collection<Player> players,
+            @NotNull DisplayType displayType,
+            @Nullable Condition condition,
+            @Nullable Audience audience,
+            int priority,
+            @NotNull SlotPolicy slotPolicy,
+            @Nullable Location soundOrigin,
+            boolean threadSafePlaceholders
+    ) {
+        this.animationName = animationName;
+        this.animation = animation;
+        this.animationRef = animationRef;
+        this.players = players;
+        this.displayType = displayType;
+        this.condition = condition;
+        this.audience = audience;
+        this.priority = priority;
+        this.slotPolicy = slotPolicy;
+        this.soundOrigin = soundOrigin;
+        this.threadSafePlaceholders = threadSafePlaceholders;
+    }
+
+    private ShowRequest(
+            @NotNull String animationName,
+            @Nullable Animation animation,
+            @Nullable AnimationRef animationRef,
+            @NotNull Collection<Player> players,
+            @NotNull DisplayType displayType,
+            @Nullable Condition condition
+    ) {
+        this(animationName, animation, animationRef, players, displayType, condition, null, 0, SlotPolicy.PREEMPT, null, false);
+    }
+
+    private ShowRequest(
+            @NotNull String animationName,
+            @Nullable Animation animation,
+            @Nullable AnimationRef animationRef,
+            @NotNull Audience audience,
+            @NotNull DisplayType displayType
+    ) {
+        this(animationName, animation, animationRef, audience.getPlayers(), displayType, audience.getCondition(), audience, 0, SlotPolicy.PREEMPT, null, false);
+        if (audience.isClosed()) {
+            throw new IllegalStateException("The audience was closed.");
+        }
+    }
+
+    /**
+     * Creates a request for a registered animation.
+     *
+     * @param animationName The animation name.
+     * @param players       The players list.
+     * @param displayType   The display type.
+     * @param condition     The condition or null if there is no condition.
+     */
+    public ShowRequest(@NotNull String animationName, @NotNull Collection<Player> players, @NotNull DisplayType displayType, @Nullable Condition condition) {
+        this(animationName, null, null, players, displayType, condition);
+    }
+
+    /**
+     * Creates a request for a registered animation without condition.
+     *
+     * @param animationName The animation name.
+     * @param players       The players list.
+     * @param displayType   The display type.
+     */
+    public ShowRequest(@NotNull String animationName, @NotNull Collection<Player> players, @NotNull DisplayType displayType) {
+        this(animationName, null, null, players, displayType, null);
+    }
+
+    /**
+     * Creates a request for a registered animation to a specific player.
+     *
+     * @param animationName The animation name.
+     * @param player        The player.
+     * @param displayType   The display type.
+     */
+    public ShowRequest(@NotNull String animationName, @NotNull Player player, @NotNull DisplayType displayType) {
+        this(animationName, null, null, List.of(player), displayType, null);
+    }
+
+    /**
+     * Creates a request for a registered animation to the players of an audience.
+     *
+     * @param animationName The animation name.
+     * @param audience      The audience.
+     * @param displayType   The display type.
+     * @throws IllegalStateException If the audience was closed.
+     */
+    public ShowRequest(@NotNull String animationName, @NotNull Audience audience, @NotNull DisplayType displayType) {
+        this(animationName, null, null, audience, displayType);
+    }
+
+    /**
+     * Creates a request for an animation.
+     *
+     * @param animation   The animation.
+     * @param players     The players list.
+     * @param displayType The display type.
+     * @param condition   The condition or null if there is no condition.
+     */
+    public ShowRequest(@NotNull Animation animation, @NotNull Collection<Player> players, @NotNull DisplayType displayType, @Nullable Condition condition) {
+        this(animation.getName(), animation, null, players, displayType, condition);
+    }
+
+    /**
+     * Creates a request for an animation without condition.
+     *
+     * @param animation   The animation.
+     * @param players     The players list.
+     * @param displayType The display type.
+     */
+    public ShowRequest(@NotNull Animation animation, @NotNull Collection<Player> players, @NotNull DisplayType displayType) {
+        this(animation.getName(), animation, null, players, displayType, null);
+    }
+
+    /**
+     * Creates a request for an animation to a specific player.
+     *
+     * @param animation   The animation.
+     * @param player      The player.
+     * @param displayType The display type.
+     */
+    public ShowRequest(@NotNull Animation animation, @NotNull Player player, @NotNull DisplayType displayType) {
+        this(animation.getName(), animation, null, List.of(player), displayType, null);
+    }
+
+    /**
+     * Creates a request for an animation to the players of an audience.
+     *
+     * @param animation   The animation.
+     * @param audience    The audience.
+     * @param displayType The display type.
+     * @throws IllegalStateException If the audience was closed.
+     */
+    public ShowRequest(@NotNull Animation animation, @NotNull Audience audience, @NotNull DisplayType displayType) {
+        this(animation.getName(), animation, null, audience, displayType);
+    }
+
+    /**
+     * Creates a request for a registered animation reference.
+     *
+     * @param animationRef The animation reference.
+     * @param players      The players list.
+     * @param displayType  The display type.
+     * @param condition    The condition or null if there is no condition.
+     */
+    public ShowRequest(@NotNull AnimationRef animationRef, @NotNull Collection<Player> players, @NotNull DisplayType displayType, @Nullable Condition condition) {
+        this(animationRef.getName(), null, animationRef, players, displayType, condition);
+    }
+
+    /**
+     * Creates a request for a registered animation reference without condition.
+     *
+     * @param animationRef The animation reference.
+     * @param players      The players list.
+     * @param displayType  The display type.
+     */
+    public ShowRequest(@NotNull AnimationRef animationRef, @NotNull Collection<Player> players, @NotNull DisplayType displayType) {
+        this(animationRef.getName(), null, animationRef, players, displayType, null);
+    }
+
+    /**
+     * Creates a request for a registered animation reference to a specific player.
+     *
+     * @param animationRef The animation reference.
+     * @param player       The player.
+     * @param displayType  The display type.
+     */
+    public ShowRequest(@NotNull AnimationRef animationRef, @NotNull Player player, @NotNull DisplayType displayType) {
+        this(animationRef.getName(), null, animationRef, List.of(player), displayType, null);
+    }
+
+    /**
+     * Creates a request for a registered animation reference to the players of an audience.
+     *
+     * @param animationRef The animation reference.
+     * @param audience     The audience.
+     * @param displayType  The display type.
+     * @throws IllegalStateException If the audience was closed.
+     */
+    public ShowRequest(@NotNull AnimationRef animationRef, @NotNull Audience audience, @NotNull DisplayType displayType) {
+        this(animationRef.getName(), null, animationRef, audience, displayType);
+    }
+
+    /**
+     * Gets the animation name.
+     * @return The animation name.
+     */
+    public @NotNull String getAnimationName() {
+        return animationName;
+    }
+
+    /**
+     * Gets the animation.
+     * @return The animation or null if the request is for a registered animation.
+     */
+    public @Nullable Animation getAnimation() {
+        return animation;
+    }
+
+    /**
+     * Gets the registered animation reference.
+     * @return The animation reference or null if the request is not for an animation reference.
+     */
+    public @Nullable AnimationRef getAnimationRef() {
+        return animationRef;
+    }
+
+    /**
+     * Gets the players who will see the animation if they pass the condition.
+     * <p>
+     * For a request to an {@link #getAudience() audience}, it is the view of the audience players, that are taken when the request is shown.
+     * @return The players.
+     */
+    public @NotNull Collection<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the display type.
+     * @return The display type.
+     */
+    public @NotNull DisplayType getDisplayType() {
+        return displayType;
+    }
+
+    /**
+     * Gets the condition.
+     * @return The condition or null if there is no condition.
+     */
+    public @Nullable Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Gets the audience the animation is shown to.
+     * <p>
+     * The players are taken from the audience on the main thread when the request is shown, and only the
+     * {@link Condition.Type#EXPRESSION expressions} of its condition are tested. If the audience is closed by then, the request has no players.
+     * @return The audience or null if the request is not for an audience.
+     */
+    public @Nullable Audience getAudience() {
+        return audience;
+    }
+
+    /**
+     * Gets the priority used to give the display slot of the players. (Default: 0)
+     * @return The priority.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Gets what happens when the display slot of a player is already used. (Default: {@link SlotPolicy#PREEMPT})
+     * @return The slot policy.
+     */
+    public @NotNull SlotPolicy getSlotPolicy() {
+        return slotPolicy;
+    }
+
+    /**
+     * Creates a copy of this request with other priority.
+     * @param priority The priority.
+     * @return The new request.
+     */
+    public @NotNull ShowRequest withPriority(int priority) {
+        return new ShowRequest(animationName, animation, animationRef, players, displayType, condition, audience, priority, slotPolicy, soundOrigin, threadSafePlaceholders);
+    }
+
+    /**
+     * Creates a copy of this request with other slot policy.
+     * @param slotPolicy The slot policy.
+     * @return The new request.
+     */
+    public @NotNull ShowRequest withSlotPolicy(@NotNull SlotPolicy slotPolicy) {
+        return new ShowRequest(animationName, animation, animationRef, players, displayType, condition, audience, priority, slotPolicy, soundOrigin, threadSafePlaceholders);
+    }
+
+    /**
+     * Gets the location where the sounds are played for the players near it.
+     * @return The sound origin or null if every player hears their own sounds.
+     */
+    public @Nullable Location getSoundOrigin() {
+        return soundOrigin;
+    }
+
+    /**
+     * Creates a copy of this request that plays the sounds once at a location, instead of once for each player.
+     * <p>
+     * Use it when the players are together, for example in an arena. The players who are too far to hear the sound
+     * from the location will hear their own sound.
+     * @param soundOrigin The location, or null to play the sounds for each player.
+     * @return The new request.
+     */
+    public @NotNull ShowRequest withSoundOrigin(@Nullable Location soundOrigin) {
+        return new ShowRequest(animationName, animation, animationRef, players, displayType, condition, audience, priority, slotPolicy, soundOrigin, threadSafePlaceholders);
+    }
+
+    /**
+     * Gets if the placeholders and the {@link Condition.Type#EXPRESSION expressions} of the request can be resolved out of the main thread. (Default: false)
+     * @return True if they can be resolved out of the main thread.
+     */
+    public boolean isThreadSafePlaceholders() {
+        return threadSafePlaceholders;
+    }
+
+    /**
+     * Creates a copy of this request that lets {@link HyrexAnimationsAPI#showAnimationAsync(ShowRequest)} resolve its placeholders
+     * and test its {@link Condition.Type#EXPRESSION expressions} out of the main thread.
+     * <p>
+     * Most PlaceholderAPI expansions use the Bukkit API, that is not thread safe. Enable it only if all the placeholders
+     * of the animation and the condition are safe to resolve from other threads.
+     * @param threadSafePlaceholders True if the placeholders can be resolved out of the main thread.
+     * @return The new request.
+     */
+    public @NotNull ShowRequest withThreadSafePlaceholders(boolean threadSafePlaceholders) {
+        return new ShowRequest(animationName, animation, animationRef, players, displayType, condition, audience, priority, slotPolicy, soundOrigin, threadSafePlaceholders);
+    }
+
+    @Override
+    public String toString() {
+        return "ShowRequest[" +
+                "animationName=" + animationName + ", " +
+                "animation=" + animation + ", " +
+                "animationRef=" + animationRef + ", " +
+                "players=" + players + ", " +
+                "displayType=" + displayType + ", " +
+                "condition=" + condition + ", " +
+                "audience=" + audience + ", " +
+                "priority=" + priority + ", " +
+                "slotPolicy=" + slotPolicy + ", " +
+                "soundOrigin=" + soundOrigin + ", " +
+                "threadSafePlaceholders=" + threadSafePlaceholders + ']';
+    }
+}
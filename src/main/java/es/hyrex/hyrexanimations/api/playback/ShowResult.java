@@ -0,0 +1,127 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Represents the result of a {@link ShowRequest}.
+ *
+ * @since 1.2.0
+ */
+public class ShowResult {
+    private final @NotNull ShowRequest request;
+    private final @NotNull Status status;
+    private final @NotNull Collection<Player> players;
+    private final @Nullable PlaybackHandle playback;
+
+    /**
+     * @param request  The request.
+     * @param status   The result status.
+     * @param players  The players who will see the animation.
+     * @param playback The playback or null if the animation will not be shown.
+     */
+    public ShowResult(@NotNull ShowRequest request, @NotNull Status status, @NotNull Collection<Player> players, @Nullable PlaybackHandle playback) {
+        this.request = request;
+        this.status = status;
+        this.players = players;
+        this.playback = playback;
+    }
+
+    /**
+     * Gets the request.
+     * @return The request.
+     */
+    public @NotNull ShowRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Gets the result status.
+     * @return The result status.
+     */
+    public @NotNull Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the players who pass the condition and the animation will be shown.
+     * @return The players who will see the animation, or an empty list if it will not be shown.
+     */
+    public @NotNull Collection<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the playback, to control the animation while it is shown.
+     * @return The playback or null if the animation will not be shown.
+     */
+    public @Nullable PlaybackHandle getPlayback() {
+        return playback;
+    }
+
+    /**
+     * Gets if the animation will be shown.
+     * @return True if the status is {@link Status#SHOWN}.
+     */
+    public boolean isShown() {
+        return status == Status.SHOWN;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (ShowResult) obj;
+        return Objects.equals(this.request, that.request) &&
+                Objects.equals(this.status, that.status) &&
+                Objects.equals(this.players, that.players) &&
+                Objects.equals(this.playback, that.playback);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(request, status, players, playback);
+    }
+
+    @Override
+    public String toString() {
+        return "ShowResult[" +
+                "request=" + request + ", " +
+                "status=" + status + ", " +
+                "players=" + players + ", " +
+                "playback=" + playback + ']';
+    }
+
+
+    /**
+     * Represents the status of a show request.
+     *
+     * @since 1.2.0
+     */
+    public enum Status {
+        /**
+         * The animation will be shown.
+         */
+        SHOWN,
+        /**
+         * The animation was not found.
+         */
+        NOT_FOUND,
+        /**
+         * No player passed the condition.
+         */
+        NO_PLAYERS,
+        /**
+         * The display slot of all the players was used by other animation. (See {@link SlotPolicy})
+         */
+        DROPPED,
+        /**
+         * The animation start was cancelled by an event listener.
+         */
+        CANCELLED
+    }
+}
@@ -0,0 +1,45 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+import es.hyrex.hyrexanimations.api.animation.DisplayType;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Keeps track of the animation each player is seeing on each {@link DisplayType}.
+ * <p>
+ * When a playback loses the slot of a player, no more packets are sent to that player for that playback.
+ * See {@link SlotPolicy} to know how the slots are given.
+ *
+ * @since 1.2.0
+ */
+public interface SlotManager {
+
+    /**
+     * Gets the playback that is using the slot of a player.
+     *
+     * @param player      The player.
+     * @param displayType The display type.
+     * @return The playback or null if the slot is free.
+     */
+    @Nullable PlaybackHandle getActive(@NotNull Player player, @NotNull DisplayType displayType);
+
+    /**
+     * Gets the playbacks that are waiting for the slot of a player, ordered by priority.
+     *
+     * @param player      The player.
+     * @param displayType The display type.
+     * @return An unmodifiable list with the queued playbacks.
+     */
+    @NotNull List<PlaybackHandle> getQueued(@NotNull Player player, @NotNull DisplayType displayType);
+
+    /**
+     * Frees the slot of a player, stopping the active playback and discarding the queued ones for that player.
+     *
+     * @param player      The player.
+     * @param displayType The display type.
+     */
+    void clear(@NotNull Player player, @NotNull DisplayType displayType);
+}
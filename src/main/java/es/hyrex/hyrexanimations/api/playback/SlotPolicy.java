@@ -0,0 +1,23 @@
+package es.hyrex.hyrexanimations.api.playback;
+
+/**
+ * Represents what happens when an animation is shown to a player whose display slot is already used by other animation.
+ * <p>
+ * Each player can see only one animation for each {@link es.hyrex.hyrexanimations.api.animation.DisplayType} at the same time.
+ *
+ * @since 1.2.0
+ */
+public enum SlotPolicy {
+    /**
+     * The new animation replaces the current one if its priority is higher or equal. Otherwise, it will not be shown to the player.
+     */
+    PREEMPT,
+    /**
+     * The new animation will be shown to the player when the slot is free. Queued animations are shown by priority.
+     */
+    QUEUE,
+    /**
+     * The new animation will not be shown to the player.
+     */
+    DROP
+}
@@ -0,0 +1,92 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimationTest {
+
+    private static Animation animation(double framesPerSecond) {
+        return new Animation("test", List.of("A"), framesPerSecond, false, false);
+    }
+
+    @Test
+    void frameTicksOfDivisorRates() {
+        assertEquals(0, animation(20.0).getFrameTick(0));
+        assertEquals(7, animation(20.0).getFrameTick(7));
+        assertEquals(14, animation(10.0).getFrameTick(7));
+        assertEquals(40, animation(0.5).getFrameTick(1));
+    }
+
+    @Test
+    void frameTicksOfNonDivisorRates() {
+        assertEquals(200, animation(1.1).getFrameTick(11));
+        assertEquals(100, animation(2.2).getFrameTick(11));
+        assertEquals(200, animation(0.3).getFrameTick(3));
+        assertEquals(66, animation(0.3).getFrameTick(1));
+        assertEquals(18, animation(1.1).getFrameTick(1));
+        assertEquals(6, animation(3.0).getFrameTick(1));
+        assertEquals(20, animation(3.0).getFrameTick(3));
+    }
+
+    @Test
+    void frameTicksDoNotDrift() {
+        for (double framesPerSecond : new double[]{0.3, 1.1, 2.2, 3.0, 7.0, 13.3}) {
+            Animation animation = animation(framesPerSecond);
+            long previous = -1;
+            for (int frame = 0; frame <= 10_000; frame++) {
+                long tick = animation.getFrameTick(frame);
+                long expected = (long) Math.floor(frame * 20 / framesPerSecond + 1e-6);
+                assertEquals(expected, tick, "fps " + framesPerSecond + ", frame " + frame);
+                assertTrue(tick >= previous, "fps " + framesPerSecond + ", frame " + frame);
+                previous = tick;
+            }
+        }
+    }
+
+    @Test
+    void frameTicksOfLargeIndexes() {
+        assertEquals(Integer.MAX_VALUE * 20L, animation(1.0).getFrameTick(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void runDurations() {
+        Animation animation = new Animation("test", Collections.nCopies(11, "A"), 1.1, false, false);
+        FrameRun run = animation.getFrameRuns().get(0);
+        assertEquals(200, run.getDurationTicks(animation));
+    }
+
+    @Test
+    void animationsWithEqualFramesAreEqual() {
+        Animation runLength = new Animation("x", List.of("A", "A"), 1.0, false, false);
+        Animation list = new Animation("x", new ListFrameSource(List.of("A", "A")), 1.0, false, false);
+        assertEquals(runLength, list);
+        assertEquals(list, runLength);
+        assertEquals(runLength.hashCode(), list.hashCode());
+        assertEquals(List.of("A", "A").hashCode(), runLength.getFrameSource().hashCode());
+
+        assertNotEquals(runLength, new Animation("x", List.of("A", "B"), 1.0, false, false));
+        assertNotEquals(list, new Animation("x", new ListFrameSource(List.of("A")), 1.0, false, false));
+    }
+
+    @Test
+    void generatedAnimationsAreComparedByIdentity() {
+        FrameSource generated = FrameSource.generated(2, index -> "A");
+        assertEquals(new Animation("x", generated, 1.0, false, false), new Animation("x", generated, 1.0, false, false));
+        assertNotEquals(new Animation("x", List.of("A", "A"), 1.0, false, false), new Animation("x", generated, 1.0, false, false));
+        assertNotEquals(new Animation("x", FrameSource.generated(2, index -> "A"), 1.0, false, false), new Animation("x", generated, 1.0, false, false));
+    }
+
+    @Test
+    void invalidFramesPerSecond() {
+        assertThrows(IllegalArgumentException.class, () -> animation(0.0).getFrameTick(1));
+        assertThrows(IllegalArgumentException.class, () -> animation(-1.0).getFrameTick(1));
+        assertThrows(IllegalArgumentException.class, () -> animation(Double.NaN).getFrameTick(1));
+    }
+}
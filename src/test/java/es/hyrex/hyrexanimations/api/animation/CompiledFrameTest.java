@@ -0,0 +1,104 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledFrameTest {
+    private static final PlaceholderResolver NAME_RESOLVER = (player, placeholder) ->
+            placeholder.equals("%player_name%") ? player.getName() : placeholder.substring(1, placeholder.length() - 1).toUpperCase();
+
+    @Test
+    void literalPercentIsNotAPlaceholder() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"50% off %player_name%\"}", true);
+        assertEquals(List.of("%player_name%"), frame.getPlaceholders());
+        assertEquals("{\"text\":\"50% off Steve\"}", frame.resolve(player("Steve"), NAME_RESOLVER));
+    }
+
+    @Test
+    void adjacentPlaceholders() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"%a%%b%\"}", true);
+        assertEquals(List.of("%a%", "%b%"), frame.getPlaceholders());
+        assertEquals("{\"text\":\"AB\"}", frame.resolve(player("Steve"), NAME_RESOLVER));
+    }
+
+    @Test
+    void percentPairsAcrossJsonStrings() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"100%\",\"extra\":[{\"text\":\"%off\"}]}", true);
+        assertEquals(List.of(), frame.getPlaceholders());
+        assertTrue(frame.isStatic());
+
+        CompiledFrame next = new CompiledFrame("{\"text\":\"100%\",\"extra\":[{\"text\":\"%a%\"}]}", true);
+        assertEquals(List.of("%a%"), next.getPlaceholders());
+    }
+
+    @Test
+    void placeholdersAreNotScannedWithoutPlaceholderAPI() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"%player_name%\"}", false);
+        assertTrue(frame.isStatic());
+        assertEquals(frame.getPayload(), frame.resolve(player("Steve"), NAME_RESOLVER));
+    }
+
+    @Test
+    void resolvedValuesAreEscaped() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"%value%\"}", true);
+        PlaceholderResolver resolver = (player, placeholder) -> "a\"b\\c\nd\re\tf\u0001g\u001fh\u00e9";
+        assertEquals("{\"text\":\"a\\\"b\\\\c\\nd\\re\\tf\\u0001g\\u001fh\u00e9\"}", frame.resolve(player("Steve"), resolver));
+    }
+
+    @Test
+    void staticFrameIsOneGroupWithoutResolving() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"Hello\"}", true);
+        List<Player> players = List.of(player("Steve"), player("Alex"));
+        PlaceholderResolver failing = (player, placeholder) -> {
+            throw new AssertionError("The resolver must not be called.");
+        };
+
+        Map<String, Collection<? extends Player>> groups = frame.groupByPayload(players, failing);
+        assertEquals(1, groups.size());
+        assertEquals(players, new ArrayList<>(groups.get(frame.getPayload())));
+        assertThrows(UnsupportedOperationException.class, () -> groups.get(frame.getPayload()).clear());
+        assertEquals(Map.of(), frame.groupByPayload(List.of(), failing));
+    }
+
+    @Test
+    void playersAreGroupedByPayload() {
+        CompiledFrame frame = new CompiledFrame("{\"text\":\"Team %team%\"}", true);
+        Player steve = player("Steve");
+        Player alex = player("Alex");
+        Player herobrine = player("Herobrine");
+        PlaceholderResolver resolver = (player, placeholder) -> player.getName().equals("Alex") ? "blue" : "red";
+
+        Map<String, Collection<? extends Player>> groups = frame.groupByPayload(List.of(steve, alex, herobrine), resolver);
+        assertEquals(List.of("{\"text\":\"Team red\"}", "{\"text\":\"Team blue\"}"), new ArrayList<>(groups.keySet()));
+        assertEquals(List.of(steve, herobrine), new ArrayList<>(groups.get("{\"text\":\"Team red\"}")));
+        assertEquals(List.of(alex), new ArrayList<>(groups.get("{\"text\":\"Team blue\"}")));
+        assertFalse(groups.containsKey(frame.getPayload()));
+    }
+
+    private static Player player(String name) {
+        return (Player) Proxy.newProxyInstance(CompiledFrameTest.class.getClassLoader(), new Class<?>[]{Player.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                case "toString":
+                    return name;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
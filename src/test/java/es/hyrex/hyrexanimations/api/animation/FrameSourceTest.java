@@ -0,0 +1,98 @@
+package es.hyrex.hyrexanimations.api.animation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrameSourceTest {
+
+    @Test
+    void emptySource() {
+        for (FrameSource source : sources(List.of())) {
+            assertRuns(source);
+            assertFalse(source.runIterator().hasNext());
+            assertThrows(NoSuchElementException.class, () -> source.runIterator().next());
+        }
+    }
+
+    @Test
+    void singleFrame() {
+        for (FrameSource source : sources(List.of("A"))) {
+            assertRuns(source, new FrameRun("A", 0, 1));
+        }
+    }
+
+    @Test
+    void trailingRun() {
+        for (FrameSource source : sources(List.of("A", "B", "B", "B"))) {
+            assertRuns(source, new FrameRun("A", 0, 1), new FrameRun("B", 1, 3));
+        }
+    }
+
+    @Test
+    void nonAdjacentRepeat() {
+        for (FrameSource source : sources(List.of("A", "A", "B", "A"))) {
+            assertRuns(source, new FrameRun("A", 0, 2), new FrameRun("B", 2, 1), new FrameRun("A", 3, 1));
+        }
+    }
+
+    @Test
+    void runLengthFramesAreStoredOnce() {
+        RunLengthFrameSource source = new RunLengthFrameSource(List.of("A", "A", "B", new String("A")));
+        assertEquals(List.of("A", "A", "B", "A"), source.asList());
+        assertEquals(0, source.runOf(1));
+        assertEquals(2, source.runOf(3));
+        assertSame(source.getFrame(0), source.getFrame(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> source.getFrame(4));
+    }
+
+    @Test
+    void generatedRunsReadEachFrameOnce() {
+        int[] reads = new int[1];
+        FrameSource source = FrameSource.generated(5, index -> {
+            reads[0]++;
+            return index < 3 ? "A" : "B";
+        });
+        List<FrameRun> runs = new ArrayList<>();
+        source.runIterator().forEachRemaining(runs::add);
+        assertEquals(List.of(new FrameRun("A", 0, 3), new FrameRun("B", 3, 2)), runs);
+        assertEquals(5, reads[0]);
+    }
+
+    @Test
+    void runDurationsCoverTheAnimation() {
+        Animation animation = new Animation("test", List.of("A", "A", "B", "A"), 3.0, false, false);
+        long total = 0;
+        for (FrameRun run : animation.getFrameRuns()) {
+            total += run.getDurationTicks(animation);
+        }
+        assertEquals(13, animation.getFrameRuns().get(0).getDurationTicks(animation));
+        assertEquals(animation.getFrameTick(4), total);
+    }
+
+    /**
+     * The same frames in a list source, a run-length source and a generated source.
+     */
+    private static List<FrameSource> sources(List<String> frames) {
+        return List.of(
+                new ListFrameSource(frames),
+                new RunLengthFrameSource(frames),
+                FrameSource.of(frames),
+                FrameSource.generated(frames.size(), frames::get)
+        );
+    }
+
+    private static void assertRuns(FrameSource source, FrameRun... expected) {
+        List<FrameRun> streamed = new ArrayList<>();
+        source.runIterator().forEachRemaining(streamed::add);
+        assertEquals(List.of(expected), source.getRuns(), source.toString());
+        assertEquals(List.of(expected), streamed, source.toString());
+    }
+}
@@ -0,0 +1,135 @@
+package es.hyrex.hyrexanimations.api.pack;
+
+import es.hyrex.hyrexanimations.api.animation.Animation;
+import es.hyrex.hyrexanimations.api.animation.AnimationCommand;
+import es.hyrex.hyrexanimations.api.animation.AnimationSound;
+import es.hyrex.hyrexanimations.api.animation.AnimationType;
+import es.hyrex.hyrexanimations.api.animation.FrameRun;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnimationPackTest {
+    private static final Animation GREETING = new Animation(
+            "greeting",
+            List.of("Hi", "Hi", "Hi", "Hello %player_name%", "Bye", "Bye"),
+            10.0,
+            true,
+            true,
+            Map.of(3, List.of(new AnimationSound("minecraft", "entity.player.levelup", "master", 1.5f))),
+            Map.of(4, List.of(new AnimationCommand(AnimationCommand.Type.CONSOLE, "say bye")))
+    );
+    private static final Animation EMPTY = new Animation("empty", List.of(), 20.0, false, false);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTrip() throws IOException {
+        Path path = write(directory.resolve("animations.hxpack"));
+        AnimationPack pack = AnimationPack.open(path);
+
+        assertEquals(List.of("greeting", "empty"), List.copyOf(pack.getAnimationNames()));
+        assertEquals(AnimationType.PLAIN_TEXT, pack.getType("greeting"));
+        assertEquals(AnimationType.API, pack.getType("empty"));
+        assertNull(pack.getAnimation("missing"));
+
+        Animation greeting = pack.getAnimation("greeting");
+        assertEquals(GREETING.getName(), greeting.getName());
+        assertEquals(GREETING.getFrameList(), greeting.getFrameList());
+        assertEquals(GREETING.getFrameRuns(), greeting.getFrameRuns());
+        List<FrameRun> streamed = new ArrayList<>();
+        greeting.getFrameSource().runIterator().forEachRemaining(streamed::add);
+        assertEquals(GREETING.getFrameRuns(), streamed);
+        assertEquals(GREETING.getFramesPerSecond(), greeting.getFramesPerSecond());
+        assertEquals(GREETING.getUseMiniMessage(), greeting.getUseMiniMessage());
+        assertEquals(GREETING.getUsePlaceholderAPI(), greeting.getUsePlaceholderAPI());
+        assertEquals(GREETING.getSounds(), greeting.getSounds());
+        assertEquals(GREETING.getCommands(), greeting.getCommands());
+
+        assertEquals(List.of(), pack.getAnimation("empty").getFrameList());
+    }
+
+    @Test
+    void rewriteKeepsOpenPack() throws IOException {
+        Path path = write(directory.resolve("animations.hxpack"));
+        AnimationPack pack = AnimationPack.open(path);
+
+        new AnimationPackWriter()
+                .add(new Animation("greeting", List.of("w"), 1.0, false, false), AnimationType.API)
+                .write(path);
+
+        assertEquals(GREETING.getFrameList(), pack.getAnimation("greeting").getFrameList());
+        assertEquals(List.of("w"), AnimationPack.open(path).getAnimation("greeting").getFrameList());
+        try (var files = Files.list(directory)) {
+            assertEquals(Set.of(path), files.collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void corruptedPacks() throws IOException {
+        byte[] bytes = Files.readAllBytes(write(directory.resolve("valid.hxpack")));
+
+        assertCorrupted(ByteBuffer.allocate(3).array());
+        assertCorrupted(withInt(bytes, 6, -1));
+        assertCorrupted(withInt(bytes, 6, Integer.MAX_VALUE));
+        assertCorrupted(withInt(bytes, 10, -1));
+        assertCorrupted(Arrays.copyOf(bytes, bytes.length - 1));
+
+        int animation = animationOffset(bytes);
+        assertCorrupted(withInt(bytes, animation, 1000));
+        assertCorrupted(withByte(bytes, animation + 4, 100));
+        assertCorrupted(withInt(bytes, animation + 14, -1));
+        assertCorrupted(withInt(bytes, animation + 18, -1));
+        assertCorrupted(withInt(bytes, animation + 22, 1000));
+        assertCorrupted(withInt(bytes, animation + 26, 1));
+    }
+
+    private Path write(Path path) throws IOException {
+        new AnimationPackWriter()
+                .add(GREETING, AnimationType.PLAIN_TEXT)
+                .add(EMPTY, AnimationType.API)
+                .write(path);
+        return path;
+    }
+
+    private void assertCorrupted(byte[] bytes) throws IOException {
+        Path path = Files.write(Files.createTempFile(directory, "corrupted", ".hxpack"), bytes);
+        assertThrows(IOException.class, () -> AnimationPack.open(path));
+    }
+
+    private static int animationOffset(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int offset = 10;
+        for (int i = buffer.getInt(6); i > 0; i--) {
+            offset += 4 + buffer.getInt(offset);
+        }
+        return offset + 4;
+    }
+
+    private static byte[] withInt(byte[] bytes, int offset, int value) {
+        byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy).putInt(offset, value);
+        return copy;
+    }
+
+    private static byte[] withByte(byte[] bytes, int offset, int value) {
+        byte[] copy = bytes.clone();
+        copy[offset] = (byte) value;
+        return copy;
+    }
+}